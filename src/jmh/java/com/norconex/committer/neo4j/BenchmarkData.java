@@ -0,0 +1,79 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.norconex.commons.lang.map.Properties;
+
+/**
+ * Synthetic documents shared by benchmarks.
+ */
+final class BenchmarkData {
+
+    static final String ID_PARAM = "id";
+    static final String CONTENT_PARAM = "content";
+
+    private static final String WORDS =
+            "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates document fields named "field0" to "fieldN".
+     * @param fieldCount number of fields
+     * @param valuesPerField number of values per field
+     * @return fields
+     */
+    static Properties fields(int fieldCount, int valuesPerField) {
+        Properties meta = new Properties();
+        for (int i = 0; i < fieldCount; i++) {
+            for (int j = 0; j < valuesPerField; j++) {
+                meta.add("field" + i, "Value " + j + " of field " + i);
+            }
+        }
+        return meta;
+    }
+
+    /**
+     * Creates an upsert query storing all fields created by
+     * {@link #fields(int, int)} and the document content.
+     * @param fieldCount number of fields
+     * @return Cypher query
+     */
+    static String upsertCypher(int fieldCount) {
+        StringBuilder b = new StringBuilder("MERGE (d:Doc { id: $")
+                .append(ID_PARAM).append(" })\nSET d.content = $")
+                .append(CONTENT_PARAM);
+        for (int i = 0; i < fieldCount; i++) {
+            b.append(", d.field").append(i).append(" = $field").append(i);
+        }
+        return b.toString();
+    }
+
+    /**
+     * Creates UTF-8 text content.
+     * @param size content size in bytes
+     * @return content
+     */
+    static byte[] content(int size) {
+        return StringUtils.left(StringUtils.repeat(
+                WORDS, size / WORDS.length() + 1), size)
+                        .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,147 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.Neo4jContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.norconex.committer.core3.CommitterContext;
+import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.core3.ICommitterRequest;
+import com.norconex.committer.core3.UpsertRequest;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.WriteMode;
+import com.norconex.commons.lang.map.Properties;
+
+/**
+ * <p>
+ * Measures end-to-end batch commits, in documents per second (the
+ * "documents" secondary result). Documents are committed to the Neo4j
+ * server at the URI given by the "neo4j.uri" system property, or to a
+ * Docker container started for the benchmark if not set (version from
+ * the "neo4j.version" system property, default "4.2.0").
+ * The same documents are committed on each invocation, so all but the
+ * first commits are updates of existing nodes.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CommitBatchBenchmark {
+
+    @Param({ "100", "1000" })
+    int batchSize;
+
+    @Param({ "10", "50" })
+    int fieldCount;
+
+    @Param({ "1000", "100000" })
+    int contentSize;
+
+    @Param({ "DOCUMENT", "UNWIND" })
+    WriteMode writeMode;
+
+    private Neo4jContainer<?> container;
+    private Path workDir;
+    private Neo4jCommitter committer;
+    private Properties meta;
+    private byte[] content;
+    private List<ICommitterRequest> batch;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Documents {
+        public long documents;
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException, CommitterException {
+        String uri = System.getProperty("neo4j.uri");
+        if (StringUtils.isBlank(uri)) {
+            container = new Neo4jContainer<>(DockerImageName.parse("neo4j")
+                    .withTag(System.getProperty("neo4j.version", "4.2.0")))
+                            .withoutAuthentication();
+            container.start();
+            uri = container.getBoltUrl();
+        }
+        workDir = Files.createTempDirectory("neo4j-benchmark");
+        committer = new Neo4jCommitter();
+        Neo4jCommitterConfig cfg = committer.getConfig();
+        cfg.setUri(uri);
+        cfg.setNodeIdProperty(BenchmarkData.ID_PARAM);
+        cfg.setNodeContentProperty(BenchmarkData.CONTENT_PARAM);
+        cfg.setMultiValuesJoiner("|");
+        cfg.setUpsertCypher(BenchmarkData.upsertCypher(fieldCount));
+        cfg.setDeleteCypher("MATCH (d:Doc { id: $id }) DETACH DELETE d");
+        cfg.setWriteMode(writeMode);
+        cfg.setCreateNodeIdConstraints(true);
+        committer.init(
+                CommitterContext.builder().setWorkDir(workDir).build());
+        meta = BenchmarkData.fields(fieldCount, 1);
+        content = BenchmarkData.content(contentSize);
+    }
+
+    // Content streams can only be read once, so a new batch is
+    // created for each invocation.
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new UpsertRequest("doc-" + i, meta,
+                    new ByteArrayInputStream(content)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws CommitterException {
+        committer.close();
+        if (container != null) {
+            container.stop();
+        }
+        FileUtils.deleteQuietly(workDir.toFile());
+    }
+
+    @Benchmark
+    public void commitBatch(Documents docs) throws CommitterException {
+        committer.commitBatch(batch.iterator());
+        docs.documents += batchSize;
+    }
+}
@@ -0,0 +1,78 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading of document content for each content mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentReaderBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    int contentSize;
+
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        content = BenchmarkData.content(contentSize);
+    }
+
+    @Benchmark
+    public String readFull() throws IOException {
+        return ContentReader.readString(
+                new ByteArrayInputStream(content), -1);
+    }
+
+    @Benchmark
+    public String readTruncated() throws IOException {
+        return ContentReader.readString(new ByteArrayInputStream(content),
+                Neo4jCommitterConfig.DEFAULT_MAX_CONTENT_LENGTH);
+    }
+
+    @Benchmark
+    public void readChunks(Blackhole bh) throws IOException {
+        try (ContentReader reader = new ContentReader(
+                new ByteArrayInputStream(content),
+                Neo4jCommitterConfig.DEFAULT_CONTENT_CHUNK_SIZE)) {
+            String chunk;
+            while ((chunk = reader.nextChunk()) != null) {
+                bh.consume(chunk);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.norconex.commons.lang.map.Properties;
+
+/**
+ * Measures the conversion of document fields to query parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterPlanBenchmark {
+
+    @Param({ "10", "100" })
+    int fieldCount;
+
+    @Param({ "1", "5" })
+    int valuesPerField;
+
+    @Param({ "", "|" })
+    String multiValuesJoiner;
+
+    private ParameterPlan plan;
+    private Properties meta;
+
+    @Setup
+    public void setup() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setMultiValuesJoiner(multiValuesJoiner);
+        // Only half the fields are referenced by the query
+        plan = new ParameterPlan(
+                BenchmarkData.upsertCypher(fieldCount / 2), cfg);
+        meta = BenchmarkData.fields(fieldCount, valuesPerField);
+    }
+
+    @Benchmark
+    public Map<String, Object> toParameters() {
+        Map<String, Object> params = plan.toParameters(meta);
+        plan.putValue(params, BenchmarkData.ID_PARAM, "doc");
+        return params;
+    }
+}
@@ -0,0 +1,149 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Local content-addressed store of document content. Each content is
+ * written once, to a file named after the SHA-256 hash of its bytes,
+ * in directories named after the first two pairs of hash characters
+ * (e.g., "3f/a2/3fa2..."), so identical contents are stored only once
+ * and no directory holds too many files.
+ * </p>
+ * <p>
+ * Content is streamed to a temporary file while being hashed, then
+ * moved to its final location, unless already there. Stored files are
+ * never modified nor deleted, as they may be shared by many documents.
+ * </p>
+ */
+class BlobStore {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(BlobStore.class);
+
+    private static final String TEMP_DIR = "tmp";
+
+    private final Path dir;
+    private final Path tempDir;
+
+    BlobStore(Path dir) throws IOException {
+        this.dir = dir;
+        this.tempDir = dir.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        LOG.info("Blob store opened: {}", dir);
+    }
+
+    /**
+     * Stores content, unless the same content is already stored.
+     * @param content content to store
+     * @return stored content details
+     * @throws IOException could not store content
+     */
+    Blob store(InputStream content) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "blob-", ".tmp");
+        try {
+            MessageDigest digest = newDigest();
+            long length;
+            try (InputStream in = new DigestInputStream(content, digest);
+                    OutputStream out = Files.newOutputStream(temp)) {
+                length = IOUtils.copyLarge(in, out);
+            }
+            String hash = String.format(
+                    "%064x", new BigInteger(1, digest.digest()));
+            String path = toPath(hash);
+            Path file = dir.resolve(path);
+            if (!Files.exists(file)) {
+                Files.createDirectories(file.getParent());
+                try {
+                    Files.move(temp, file);
+                } catch (FileAlreadyExistsException e) {
+                    // Stored concurrently, from another document
+                    LOG.trace("Blob already stored: {}", path);
+                }
+            }
+            return new Blob(hash, path, length);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Gets the path of a content, relative to the store directory.
+     * @param hash content hash
+     * @return relative path, with forward slashes
+     */
+    static String toPath(String hash) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Always available, as required by the Java specification
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Details of stored content.
+     */
+    static class Blob {
+        private final String hash;
+        private final String path;
+        private final long length;
+        Blob(String hash, String path, long length) {
+            this.hash = hash;
+            this.path = path;
+            this.length = length;
+        }
+        /**
+         * Gets the content SHA-256 hash, in lowercase hexadecimal.
+         * @return hash
+         */
+        String getHash() {
+            return hash;
+        }
+        /**
+         * Gets the content path, relative to the store directory.
+         * @return relative path
+         */
+        String getPath() {
+            return path;
+        }
+        /**
+         * Gets the content length, in bytes.
+         * @return length
+         */
+        long getLength() {
+            return length;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.neo4j.driver.Bookmark;
+
+/**
+ * <p>
+ * Bookmarks of the latest committed sessions. On a cluster, a session
+ * started with these bookmarks only runs once the cluster member
+ * serving it has caught up with those sessions. Sessions committed
+ * concurrently each contribute their own bookmark, replacing the
+ * bookmarks they were started with.
+ * </p>
+ */
+class BookmarkChain {
+
+    private final Set<String> values = new LinkedHashSet<>();
+
+    /**
+     * Gets the bookmark of the latest committed sessions.
+     * @return bookmark (never {@code null}, empty if none)
+     */
+    synchronized Bookmark getBookmark() {
+        return Bookmark.from(new HashSet<>(values));
+    }
+
+    /**
+     * Records the last bookmark of a committed session.
+     * @param given bookmarks the session was started with, or
+     *     {@code null} if not started from this chain
+     * @param last last bookmark of the session
+     */
+    synchronized void chain(Iterable<Bookmark> given, Bookmark last) {
+        if (last == null || last.isEmpty()) {
+            return;
+        }
+        if (given == null) {
+            values.clear();
+        } else {
+            given.forEach(b -> values.removeAll(b.values()));
+        }
+        values.addAll(last.values());
+    }
+}
@@ -0,0 +1,171 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.neo4j.CypherStatement.Query;
+
+/**
+ * <p>
+ * Local store of the checksums of the last upserts committed for each
+ * reference, persisted between committer sessions. A checksum covers
+ * the Cypher statement and its parameters, so changing either the
+ * statement or the document is enough to have it sent again.
+ * </p>
+ * <p>
+ * To never skip a document that needs to be sent, a reference checksum is
+ * removed as soon as a new statement is sent for it, and only stored
+ * back once the statement is committed.
+ * </p>
+ */
+class ChecksumStore implements Closeable {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ChecksumStore.class);
+
+    static final String FILE_NAME = "neo4j-checksums.mv";
+
+    private final MVStore store;
+    private final MVMap<String, byte[]> checksums;
+
+    ChecksumStore(Path file) {
+        store = new MVStore.Builder()
+                .fileName(file.toAbsolutePath().toString())
+                .compress()
+                .open();
+        checksums = store.openMap("checksums");
+        LOG.info("Checksum store opened with {} checksum(s): {}",
+                checksums.size(), file);
+    }
+
+    /**
+     * Gets whether a checksum is the same as the one last committed for
+     * a reference.
+     * @param reference document reference
+     * @param checksum statement checksum
+     * @return {@code true} if unchanged
+     */
+    boolean isUnchanged(String reference, byte[] checksum) {
+        return Arrays.equals(checksums.get(reference), checksum);
+    }
+
+    /**
+     * Removes the checksum of a reference.
+     * @param reference document reference
+     */
+    void evict(String reference) {
+        checksums.remove(reference);
+    }
+
+    /**
+     * Stores the checksum of a committed statement.
+     * @param reference document reference
+     * @param checksum statement checksum
+     */
+    void store(String reference, byte[] checksum) {
+        checksums.put(reference, checksum);
+    }
+
+    int size() {
+        return checksums.size();
+    }
+
+    @Override
+    public void close() {
+        store.close();
+        LOG.info("Checksum store closed.");
+    }
+
+    /**
+     * Computes the checksum of a statement Cypher and parameters.
+     * Parameters are processed in name order, so the same parameters
+     * always give the same checksum.
+     * @param cypher Cypher statement
+     * @param parameters statement parameters
+     * @return checksum
+     */
+    static byte[] checksum(String cypher, Map<String, Object> parameters) {
+        MessageDigest digest = newDigest();
+        update(digest, cypher, parameters);
+        return digest.digest();
+    }
+
+    /**
+     * Computes the checksum of queries, in order, and of link targets,
+     * if any.
+     * @param queries queries
+     * @param links link targets or {@code null}
+     * @return checksum
+     */
+    static byte[] checksum(List<Query> queries, List<String> links) {
+        MessageDigest digest = newDigest();
+        for (Query query : queries) {
+            update(digest, query.getCypher(), query.getParameters());
+        }
+        if (links != null) {
+            // Separates link targets from queries
+            update(digest, "");
+            links.forEach(link -> update(digest, link));
+        }
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest,
+            String cypher, Map<String, Object> parameters) {
+        update(digest, cypher);
+        for (Entry<String, Object> en : new TreeMap<>(parameters).entrySet()) {
+            update(digest, en.getKey());
+            if (en.getValue() instanceof byte[]) {
+                update(digest, (byte[]) en.getValue());
+            } else {
+                update(digest, String.valueOf(en.getValue()));
+            }
+        }
+    }
+
+    // Values are followed by a separator so that moving characters
+    // from one value to the next changes the checksum.
+    private static void update(MessageDigest digest, String value) {
+        update(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+    private static void update(MessageDigest digest, byte[] value) {
+        digest.update(value);
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Always available, as required by the Java specification
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.norconex.committer.core3.DeleteRequest;
+import com.norconex.committer.core3.ICommitterRequest;
+
+/**
+ * <p>
+ * Iterates over committer requests, dropping those superseded by a later
+ * request for the same reference. Requests are read a window at a time
+ * so memory stays bounded regardless of the batch size. Requests for the
+ * same reference in different windows are not coalesced. Requests kept
+ * are returned in their original order, optionally with the deletes of
+ * each window first. Since only one request per reference is kept in a
+ * window, this does not change the outcome for any reference.
+ * </p>
+ */
+class CoalescingIterator implements Iterator<ICommitterRequest> {
+
+    private final Iterator<ICommitterRequest> it;
+    private final int windowSize;
+    private final boolean deletesFirst;
+    private final List<ICommitterRequest> window = new ArrayList<>();
+    private int windowIndex;
+    private int coalescedCount;
+
+    CoalescingIterator(Iterator<ICommitterRequest> it, int windowSize) {
+        this(it, windowSize, false);
+    }
+    CoalescingIterator(Iterator<ICommitterRequest> it, int windowSize,
+            boolean deletesFirst) {
+        this.it = it;
+        this.windowSize = Math.max(1, windowSize);
+        this.deletesFirst = deletesFirst;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (windowIndex >= window.size()) {
+            readWindow();
+        }
+        return windowIndex < window.size();
+    }
+
+    @Override
+    public ICommitterRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return window.get(windowIndex++);
+    }
+
+    /**
+     * Gets the number of requests dropped so far.
+     * @return coalesced count
+     */
+    int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    // Keeps only the last request for each reference in the window
+    private void readWindow() {
+        List<ICommitterRequest> reqs = new ArrayList<>();
+        Map<String, Integer> lastIndexes = new HashMap<>();
+        while (reqs.size() < windowSize && it.hasNext()) {
+            ICommitterRequest req = it.next();
+            lastIndexes.put(req.getReference(), reqs.size());
+            reqs.add(req);
+        }
+        window.clear();
+        windowIndex = 0;
+        List<ICommitterRequest> upserts = new ArrayList<>();
+        for (int i = 0; i < reqs.size(); i++) {
+            ICommitterRequest req = reqs.get(i);
+            if (lastIndexes.get(req.getReference()) != i) {
+                continue;
+            }
+            if (deletesFirst && !(req instanceof DeleteRequest)) {
+                upserts.add(req);
+            } else {
+                window.add(req);
+            }
+        }
+        window.addAll(upserts);
+        coalescedCount += reqs.size() - window.size();
+    }
+}
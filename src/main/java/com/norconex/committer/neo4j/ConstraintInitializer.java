@@ -0,0 +1,180 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.exceptions.ClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.neo4j.PipelineStatement.RequestType;
+
+/**
+ * <p>
+ * Creates uniqueness constraints for node ID properties when missing,
+ * and waits for their backing indexes to be online.
+ * </p>
+ */
+class ConstraintInitializer {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ConstraintInitializer.class);
+
+    private static final String NAME = "(?:[A-Za-z_]\\w*|`[^`]+`)";
+    // A node pattern with at least one label and a property map,
+    // e.g.: (a:Doc:Page { docId: $id, ... })
+    private static final Pattern NODE_PATTERN = Pattern.compile(
+            "\\(\\s*(?:" + NAME + ")?\\s*((?::\\s*" + NAME + "\\s*)+)"
+          + "\\{([^}]*)\\}");
+    private static final Pattern LABEL_PATTERN =
+            Pattern.compile(":\\s*(" + NAME + ")");
+
+    private final Neo4jCommitterConfig config;
+
+    ConstraintInitializer(Neo4jCommitterConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Resolves which node properties should be unique, keyed by label.
+     * When node ID labels are configured, the node ID property is used
+     * for each of them. Otherwise, labels and properties are taken from
+     * node patterns of the upsert query (and upsert pipeline statements)
+     * having a property set from the node ID parameter. In link graph
+     * mode, the node ID property is also used for the link label.
+     * @return node properties keyed by label
+     */
+    Map<String, String> resolveConstraints() {
+        Map<String, String> constraints = new LinkedHashMap<>();
+        String idParam = config.getNodeIdProperty();
+        if (StringUtils.isBlank(idParam)) {
+            return constraints;
+        }
+        if (!config.getNodeIdLabels().isEmpty()) {
+            config.getNodeIdLabels().forEach(
+                    label -> constraints.put(label, idParam));
+        } else {
+            Pattern idPropPattern = Pattern.compile(
+                    "(" + NAME + ")\\s*:\\s*\\$"
+                  + "(?:" + Pattern.quote(idParam) + "\\b|`"
+                  + Pattern.quote(idParam) + "`)");
+            for (String cypher : upsertCyphers()) {
+                resolveConstraints(cypher, idPropPattern, constraints);
+            }
+        }
+        // Link graph nodes are merged on the node ID property
+        if (StringUtils.isNotBlank(config.getLinkField())
+                && StringUtils.isNotBlank(config.getLinkLabel())) {
+            constraints.putIfAbsent(config.getLinkLabel(), idParam);
+        }
+        return constraints;
+    }
+    private void resolveConstraints(String cypher, Pattern idPropPattern,
+            Map<String, String> constraints) {
+        Matcher nodeMatcher = NODE_PATTERN.matcher(cypher);
+        while (nodeMatcher.find()) {
+            Matcher propMatcher = idPropPattern.matcher(nodeMatcher.group(2));
+            if (!propMatcher.find()) {
+                continue;
+            }
+            String prop = unquote(propMatcher.group(1));
+            Matcher labelMatcher = LABEL_PATTERN.matcher(nodeMatcher.group(1));
+            while (labelMatcher.find()) {
+                constraints.putIfAbsent(unquote(labelMatcher.group(1)), prop);
+            }
+        }
+    }
+
+    private List<String> upsertCyphers() {
+        List<String> cyphers = new ArrayList<>();
+        if (StringUtils.isNotBlank(config.getUpsertCypher())) {
+            cyphers.add(config.getUpsertCypher());
+        }
+        config.getStatements().forEach(s -> {
+            if (s.getRequestType() == RequestType.UPSERT
+                    && StringUtils.isNotBlank(s.getCypher())) {
+                cyphers.add(s.getCypher());
+            }
+        });
+        return cyphers;
+    }
+
+    /**
+     * Creates missing uniqueness constraints and waits for them to
+     * be online.
+     * @param session Neo4j session
+     * @throws CommitterException could not create constraints
+     */
+    void initialize(Session session) throws CommitterException {
+        Map<String, String> constraints = resolveConstraints();
+        if (constraints.isEmpty()) {
+            LOG.warn("Could not resolve any label for node ID constraints. "
+                    + "Set \"nodeIdLabels\" explicitly.");
+            return;
+        }
+        try {
+            for (Map.Entry<String, String> en : constraints.entrySet()) {
+                createConstraint(session, en.getKey(), en.getValue());
+            }
+            long timeout = TimeUnit.MILLISECONDS.toSeconds(
+                    config.getConstraintsTimeout());
+            session.run("CALL db.awaitIndexes($timeout)",
+                    Collections.singletonMap("timeout", timeout)).consume();
+        } catch (ClientException e) {
+            throw new CommitterException(
+                    "Could not create node ID constraints.", e);
+        }
+        LOG.info("Node ID constraints online: {}", constraints);
+    }
+
+    private void createConstraint(
+            Session session, String label, String prop) {
+        String name = CypherUtil.escapeName(
+                ("norconex_" + label + "_" + prop).replaceAll("\\W", "_"));
+        String node = "(n:" + CypherUtil.escapeName(label) + ")";
+        String nodeProp = "n." + CypherUtil.escapeName(prop);
+        try {
+            // Neo4j 4.4 and higher
+            session.run("CREATE CONSTRAINT " + name + " IF NOT EXISTS FOR "
+                    + node + " REQUIRE " + nodeProp + " IS UNIQUE").consume();
+        } catch (ClientException e) {
+            if (!StringUtils.contains(e.code(), "SyntaxError")) {
+                throw e;
+            }
+            // Neo4j 4.1 to 4.3
+            session.run("CREATE CONSTRAINT " + name + " IF NOT EXISTS ON "
+                    + node + " ASSERT " + nodeProp + " IS UNIQUE").consume();
+        }
+        LOG.debug("Ensured uniqueness constraint on {}.{}", label, prop);
+    }
+
+    private static String unquote(String name) {
+        if (name.startsWith("`")) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+}
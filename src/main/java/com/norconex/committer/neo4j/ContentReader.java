@@ -0,0 +1,141 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentCompression;
+
+/**
+ * <p>
+ * Reads UTF-8 document content incrementally, as fixed-size chunks of
+ * characters, so that only one chunk is held in memory at any given time.
+ * Chunks never split a surrogate pair.
+ * </p>
+ */
+class ContentReader implements Closeable {
+
+    private final Reader reader;
+    private final char[] buffer;
+    // Number of characters carried over from the previous chunk
+    private int carry;
+    private boolean eof;
+
+    ContentReader(InputStream content, int chunkSize) {
+        this.reader = new InputStreamReader(content, StandardCharsets.UTF_8);
+        this.buffer = new char[Math.max(2, chunkSize)];
+    }
+
+    /**
+     * Reads the next chunk of content.
+     * @return next chunk or {@code null} if there is no more content
+     * @throws IOException problem reading content
+     */
+    String nextChunk() throws IOException {
+        if (eof) {
+            return null;
+        }
+        int len = carry + IOUtils.read(
+                reader, buffer, carry, buffer.length - carry);
+        carry = 0;
+        if (len < buffer.length) {
+            eof = true;
+        } else if (Character.isHighSurrogate(buffer[len - 1])) {
+            len--;
+            carry = 1;
+        }
+        if (len == 0) {
+            return null;
+        }
+        String chunk = new String(buffer, 0, len);
+        if (carry > 0) {
+            buffer[0] = buffer[len];
+        }
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads UTF-8 content as a string, stopping after a maximum number of
+     * characters (the remaining content is not read).
+     * @param content content to read
+     * @param maxLength maximum number of characters to read, or
+     *     -1 for no maximum
+     * @return content string
+     * @throws IOException problem reading content
+     */
+    static String readString(InputStream content, int maxLength)
+            throws IOException {
+        if (maxLength < 0) {
+            return IOUtils.toString(content, StandardCharsets.UTF_8);
+        }
+        Reader r = new InputStreamReader(content, StandardCharsets.UTF_8);
+        StringBuilder b = new StringBuilder();
+        char[] buf = new char[IOUtils.DEFAULT_BUFFER_SIZE];
+        int remaining = maxLength;
+        int len;
+        while (remaining > 0 && (len = r.read(
+                buf, 0, Math.min(buf.length, remaining))) != -1) {
+            b.append(buf, 0, len);
+            remaining -= len;
+        }
+        if (remaining == 0 && b.length() > 0
+                && Character.isHighSurrogate(b.charAt(b.length() - 1))) {
+            b.setLength(b.length() - 1);
+        }
+        return b.toString();
+    }
+
+    /**
+     * Reads UTF-8 content as compressed bytes. Without a maximum number
+     * of characters, content bytes are compressed as they are read.
+     * @param content content to read
+     * @param maxLength maximum number of characters to read, or
+     *     -1 for no maximum
+     * @param compression how to compress content
+     * @return compressed content
+     * @throws IOException problem reading content
+     */
+    static byte[] readCompressed(InputStream content, int maxLength,
+            ContentCompression compression) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = compression == ContentCompression.GZIP
+                ? new GZIPOutputStream(bytes)
+                : new DeflaterOutputStream(bytes)) {
+            if (maxLength < 0) {
+                IOUtils.copy(content, out);
+            } else {
+                out.write(readString(content, maxLength)
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
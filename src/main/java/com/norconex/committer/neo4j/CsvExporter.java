@@ -0,0 +1,379 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.neo4j.driver.internal.value.NullValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.core3.DeleteRequest;
+import com.norconex.committer.core3.ICommitterRequest;
+import com.norconex.committer.core3.UpsertRequest;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentMode;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.FieldType;
+import com.norconex.committer.neo4j.PipelineStatement.RequestType;
+
+/**
+ * <p>
+ * Exports upserts to CSV files for "neo4j-admin import", instead of
+ * sending them to Neo4j. Each upsert becomes a node, with a property for
+ * each parameter of the upsert queries, converted the same way.
+ * Node labels and ID property are those resolved for node ID
+ * constraints. In link graph mode, links are exported as relationships,
+ * with a node for each link target. Each file type has its own header
+ * file, and data files rolling over once they reach a maximum size.
+ * Deletes are ignored.
+ * </p>
+ */
+class CsvExporter {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(CsvExporter.class);
+
+    static final String NODES = "nodes";
+    static final String LINK_TARGETS = "link-targets";
+    static final String LINKS = "links";
+    /** Delimiter of array values and labels (unit separator). */
+    static final char ARRAY_DELIMITER = '\u001F';
+
+    private final Neo4jCommitterConfig config;
+    private final Path dir;
+    private final Neo4jCommitterMetrics metrics = new Neo4jCommitterMetrics();
+    private final ParameterPlan plan;
+    // Header type of each exported parameter, in column order
+    private final Map<String, String> columns = new LinkedHashMap<>();
+    private final String labels;
+    private final RollingCsvWriter nodes;
+    // Only set in link graph mode
+    private final LinkGraph linkGraph;
+    private final RollingCsvWriter linkTargets;
+    private final RollingCsvWriter links;
+
+    CsvExporter(Neo4jCommitterConfig config) throws CommitterException {
+        this.config = config;
+        this.dir = config.getExportDir();
+        Map<String, String> constraints =
+                new ConstraintInitializer(config).resolveConstraints();
+        if (constraints.isEmpty()) {
+            throw new CommitterException("Could not resolve any node label "
+                    + "to export. Set \"nodeIdLabels\" explicitly.");
+        }
+        String idProperty = constraints.values().iterator().next();
+        this.labels = StringUtils.join(constraints.keySet(), ARRAY_DELIMITER);
+
+        List<String> cyphers = new ArrayList<>();
+        cyphers.add(StringUtils.defaultString(config.getUpsertCypher()));
+        config.getStatements().forEach(s -> {
+            if (s.getRequestType() == RequestType.UPSERT) {
+                cyphers.add(StringUtils.defaultString(s.getCypher()));
+            }
+        });
+        this.plan = new ParameterPlan(String.join("\n", cyphers), config);
+        for (String param : plan.getParameterNames()) {
+            if (!param.equals(config.getNodeIdProperty())
+                    && !param.equals(Neo4jCommitterConfig.CHUNK_INDEX_PARAM)
+                    && !param.equals(
+                            Neo4jCommitterConfig.CONTENT_CODEC_PARAM)) {
+                columns.put(param, headerType(param));
+            }
+        }
+
+        this.linkGraph = StringUtils.isNotBlank(config.getLinkField())
+                ? new LinkGraph(config) : null;
+        try {
+            Files.createDirectories(dir);
+            StringBuilder header = new StringBuilder(
+                    csvValue(idProperty + ":ID") + "," + csvValue(":LABEL"));
+            columns.forEach((param, type) ->
+                    header.append(',').append(csvValue(param + ":" + type)));
+            nodes = new RollingCsvWriter(NODES, header.toString());
+            if (linkGraph != null) {
+                linkTargets = new RollingCsvWriter(LINK_TARGETS,
+                        csvValue(idProperty + ":ID") + ","
+                                + csvValue(":LABEL"));
+                links = new RollingCsvWriter(LINKS, csvValue(":START_ID")
+                        + "," + csvValue(":END_ID") + ","
+                        + csvValue(":TYPE"));
+            } else {
+                linkTargets = null;
+                links = null;
+            }
+        } catch (IOException e) {
+            throw new CommitterException("Cannot export to: " + dir, e);
+        }
+        LOG.info("Exporting nodes to \"{}\" with labels {}, ID property "
+                + "\"{}\", and properties {}.", dir, constraints.keySet(),
+                idProperty, columns.keySet());
+    }
+
+    // neo4j-admin import type of a parameter column
+    private String headerType(String param) {
+        if (param.equals(config.getNodeContentProperty())) {
+            return "string";
+        }
+        FieldType type = config.getFieldTypes().get(param);
+        if (type == null) {
+            return StringUtils.isEmpty(config.getMultiValuesJoiner())
+                    ? "string[]" : "string";
+        }
+        switch (type) {
+        case LONG:
+            return "long";
+        case DOUBLE:
+            return "double";
+        case BOOLEAN:
+            return "boolean";
+        case DATETIME:
+            return "datetime";
+        case LIST:
+            return "string[]";
+        default:
+            return "string";
+        }
+    }
+
+    Neo4jCommitterMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Exports the upserts of a batch. Files are flushed before returning.
+     * @param it committer requests
+     * @throws CommitterException could not export requests
+     */
+    synchronized void post(Iterator<ICommitterRequest> it)
+            throws CommitterException {
+        long start = System.nanoTime();
+        int count = 0;
+        int deletes = 0;
+        Set<String> targets = new HashSet<>();
+        try {
+            while (it.hasNext()) {
+                ICommitterRequest req = it.next();
+                count++;
+                if (req instanceof UpsertRequest) {
+                    export((UpsertRequest) req, targets);
+                } else if (req instanceof DeleteRequest) {
+                    deletes++;
+                } else {
+                    throw new CommitterException(
+                            "Unsupported request:" + req);
+                }
+            }
+            nodes.flush();
+            if (linkGraph != null) {
+                linkTargets.flush();
+                links.flush();
+            }
+        } catch (IOException e) {
+            throw new CommitterException("Cannot export to: " + dir, e);
+        } finally {
+            metrics.batchCommitted(count, System.nanoTime() - start);
+        }
+        if (deletes > 0) {
+            LOG.warn("Ignored {} delete request(s) not supported when "
+                    + "exporting.", deletes);
+        }
+    }
+
+    private void export(UpsertRequest req, Set<String> targets)
+            throws IOException {
+        Map<String, Object> params = plan.toParameters(req.getMetadata());
+        String content = config.getNodeContentProperty();
+        if (columns.containsKey(content)) {
+            params.put(content, ContentReader.readString(req.getContent(),
+                    config.getContentMode() == ContentMode.TRUNCATE
+                            ? config.getMaxContentLength() : -1));
+        }
+        StringBuilder row = new StringBuilder(
+                csvValue(req.getReference()) + "," + csvValue(labels));
+        for (Entry<String, String> col : columns.entrySet()) {
+            row.append(',').append(csvValue(toString(
+                    params.get(col.getKey()), col.getValue().endsWith("[]"))));
+        }
+        nodes.write(row.toString());
+        metrics.upsertSent();
+        Object value = params.get(content);
+        if (value instanceof String) {
+            metrics.contentSent((String) value);
+        }
+
+        if (linkGraph == null) {
+            return;
+        }
+        List<String> targetLinks = linkGraph.toLinks(req.getMetadata());
+        String type = csvValue(config.getLinkRelationship());
+        String label = csvValue(config.getLinkLabel());
+        for (String target : targetLinks) {
+            String id = csvValue(target);
+            // Targets repeat a lot, skip those already exported in batch
+            if (targets.add(target)) {
+                linkTargets.write(id + "," + label);
+            }
+            links.write(csvValue(req.getReference()) + "," + id + "," + type);
+        }
+        metrics.linksCreated(targetLinks.size());
+    }
+
+    /**
+     * Closes all files and logs how to import them.
+     */
+    synchronized void close() {
+        closeQuietly(nodes);
+        closeQuietly(linkTargets);
+        closeQuietly(links);
+        LOG.info("CSV files exported. They can be imported in a new "
+                + "database with: {}", importCommand());
+    }
+
+    /**
+     * Gets the "neo4j-admin import" command to import exported files.
+     * @return import command
+     */
+    String importCommand() {
+        StringBuilder b = new StringBuilder("neo4j-admin import"
+                + " --array-delimiter=U+001F --multiline-fields=true"
+                + " --skip-duplicate-nodes=true");
+        b.append(" --nodes=").append(nodes.files());
+        if (linkGraph != null) {
+            b.append(" --nodes=").append(linkTargets.files());
+            b.append(" --relationships=").append(links.files());
+        }
+        return b.toString();
+    }
+
+    // Array values are joined, while only the first value is kept
+    // for other types
+    static String toString(Object value, boolean array) {
+        if (value == null || value instanceof NullValue) {
+            return null;
+        }
+        if (!(value instanceof Collection)) {
+            return String.valueOf(value);
+        }
+        Collection<?> values = (Collection<?>) value;
+        if (values.isEmpty()) {
+            return null;
+        }
+        if (!array) {
+            return String.valueOf(values.iterator().next());
+        }
+        return StringUtils.join(values, ARRAY_DELIMITER);
+    }
+
+    // Quoted, unless null (exported as empty, for no property)
+    static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            LOG.error("Could not close exported file.", e);
+        }
+    }
+
+    // Writes rows to numbered files, starting a new one once the maximum
+    // file size is reached. Numbering continues from existing files.
+    // The header is written to its own file.
+    private class RollingCsvWriter implements Closeable {
+        private final String prefix;
+        private int index;
+        private long size;
+        private Writer writer;
+
+        RollingCsvWriter(String prefix, String header) throws IOException {
+            this.prefix = prefix;
+            Files.write(dir.resolve(prefix + "-header.csv"),
+                    (header + "\n").getBytes(UTF_8));
+            Pattern pattern = Pattern.compile(
+                    Pattern.quote(prefix) + "-(\\d+)\\.csv");
+            try (DirectoryStream<Path> files =
+                    Files.newDirectoryStream(dir, prefix + "-*.csv")) {
+                for (Path file : files) {
+                    Matcher m = pattern.matcher(file.getFileName().toString());
+                    if (m.matches()) {
+                        index = Math.max(index, Integer.parseInt(m.group(1)));
+                    }
+                }
+            }
+        }
+
+        void write(String row) throws IOException {
+            if (writer == null || size >= config.getExportMaxFileSize()) {
+                close();
+                index++;
+                writer = Files.newBufferedWriter(
+                        dir.resolve(String.format(
+                                "%s-%05d.csv", prefix, index)),
+                        UTF_8, StandardOpenOption.CREATE_NEW);
+                size = 0;
+            }
+            writer.write(row);
+            writer.write('\n');
+            size += Neo4jCommitterMetrics.utf8Length(row) + 1;
+        }
+
+        void flush() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        // Header and data files, as expected by neo4j-admin import
+        String files() {
+            return dir.resolve(prefix + "-header.csv") + ","
+                    + dir.resolve(prefix + "-\\d+\\.csv");
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * <p>
+ * Cypher queries with their parameters, ready to be sent to Neo4j
+ * together on behalf of a committer request.
+ * </p>
+ */
+class CypherStatement {
+
+    private final String reference;
+    private final boolean delete;
+    private final List<Query> queries;
+    private final InputStream chunkedContent;
+    // Only set when skipping unchanged documents
+    private byte[] checksum;
+    // Only set for upserts in link graph mode
+    private List<String> links;
+
+    CypherStatement(
+            String reference, String cypher, Map<String, Object> parameters) {
+        this(reference, false, Collections.singletonList(
+                new Query(0, cypher, parameters)), null);
+    }
+    CypherStatement(String reference, boolean delete,
+            List<Query> queries, InputStream chunkedContent) {
+        this.reference = reference;
+        this.delete = delete;
+        this.queries = queries;
+        this.chunkedContent = chunkedContent;
+    }
+
+    /**
+     * Gets the reference of the committer request this statement is for.
+     * @return document reference
+     */
+    String getReference() {
+        return reference;
+    }
+    /**
+     * Gets whether this statement is for a delete request.
+     * @return {@code true} if for a delete request
+     */
+    boolean isDelete() {
+        return delete;
+    }
+    /**
+     * Gets the queries to execute, in order.
+     * @return queries
+     */
+    List<Query> getQueries() {
+        return queries;
+    }
+    /**
+     * Gets the document content to be sent in chunks after this statement,
+     * if any.
+     * @return content or {@code null}
+     */
+    InputStream getChunkedContent() {
+        return chunkedContent;
+    }
+    /**
+     * Gets the checksum to store once this statement is committed,
+     * if any.
+     * @return checksum or {@code null}
+     */
+    byte[] getChecksum() {
+        return checksum;
+    }
+    void setChecksum(byte[] checksum) {
+        this.checksum = checksum;
+    }
+    /**
+     * Gets the targets of the document outgoing links, in link graph mode.
+     * @return link targets or {@code null}
+     */
+    List<String> getLinks() {
+        return links;
+    }
+    void setLinks(List<String> links) {
+        this.links = links;
+    }
+
+    @Override
+    public String toString() {
+        return new ReflectionToStringBuilder(this,
+                ToStringStyle.SHORT_PREFIX_STYLE)
+                        .setExcludeFieldNames(
+                                "queries", "chunkedContent", "checksum",
+                                "links")
+                        .toString();
+    }
+
+    /**
+     * A Cypher query with its parameters.
+     */
+    static class Query {
+        private final int step;
+        private final String cypher;
+        private final Map<String, Object> parameters;
+        Query(int step, String cypher, Map<String, Object> parameters) {
+            this.step = step;
+            this.cypher = cypher;
+            this.parameters = parameters;
+        }
+        /**
+         * Gets the position of the pipeline step this query was
+         * created from.
+         * @return step position
+         */
+        int getStep() {
+            return step;
+        }
+        String getCypher() {
+            return cypher;
+        }
+        Map<String, Object> getParameters() {
+            return parameters;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Cypher text utility methods. Parameters are detected with a light-weight
+ * scanner aware of string literals, quoted identifiers and comments.
+ * It does not validate the Cypher syntax.
+ * </p>
+ */
+final class CypherUtil {
+
+    /** Name of the list parameter holding rows in UNWIND statements. */
+    static final String UNWIND_ROWS_PARAM = "rows";
+    /** Variable name given to each row in UNWIND statements. */
+    static final String UNWIND_ROW_VARIABLE = "row";
+
+    // "WITH" clauses not carrying all variables (unlike "WITH *"),
+    // captured with the previous word to tell them from "STARTS WITH"
+    // and "ENDS WITH" operators. Keywords preceded by "." or "$" are
+    // property or parameter names.
+    private static final Pattern WITH_CLAUSE = Pattern.compile(
+            "(?i)(?:\\b(\\w+)\\s+)?(?<![.$])\\bWITH\\b(?!\\s*\\*)");
+    private static final Pattern SUBQUERY = Pattern.compile(
+            "(?i)(?<![.$])\\bCALL\\s*\\{");
+    private static final Pattern UNION = Pattern.compile(
+            "(?i)(?<![.$])\\bUNION\\b");
+
+    private CypherUtil() {
+    }
+
+    /**
+     * Gets the names of all parameters referenced in a Cypher statement,
+     * in order of first appearance.
+     * @param cypher Cypher statement
+     * @return parameter names (never {@code null})
+     */
+    static Set<String> parameterNames(String cypher) {
+        Set<String> names = new LinkedHashSet<>();
+        replaceParameters(cypher, name -> {
+            names.add(name);
+            return name;
+        });
+        return names;
+    }
+
+    /**
+     * Wraps a Cypher statement so it is executed once for each entry of
+     * a list parameter named {@value #UNWIND_ROWS_PARAM}. Every
+     * parameter reference in the original statement is replaced by the
+     * matching key of the current row (e.g., {@code $title} becomes
+     * {@code row.title}).
+     * @param cypher Cypher statement
+     * @return UNWIND Cypher statement, or {@code null} if the supplied
+     *     statement is {@code null}
+     */
+    static String toUnwindCypher(String cypher) {
+        if (cypher == null) {
+            return null;
+        }
+        return "UNWIND $" + UNWIND_ROWS_PARAM + " AS " + UNWIND_ROW_VARIABLE
+                + "\n" + replaceParameters(cypher,
+                        name -> UNWIND_ROW_VARIABLE + "." + escapeName(name));
+    }
+
+    /**
+     * Gets the first clause preventing a Cypher statement from being
+     * wrapped by {@link #toUnwindCypher(String)}, if any: a {@code WITH}
+     * clause (other than {@code WITH *}) or a {@code CALL {}} subquery,
+     * as they do not carry the row variable unless told to, or a
+     * {@code UNION}, as only its first query would be wrapped.
+     * @param cypher Cypher statement
+     * @return clause name, or {@code null} if none
+     */
+    static String findUnwindUnsafeClause(String cypher) {
+        if (cypher == null) {
+            return null;
+        }
+        String code = stripLiterals(cypher);
+        Matcher m = WITH_CLAUSE.matcher(code);
+        while (m.find()) {
+            if (!"STARTS".equalsIgnoreCase(m.group(1))
+                    && !"ENDS".equalsIgnoreCase(m.group(1))) {
+                return "WITH";
+            }
+        }
+        if (SUBQUERY.matcher(code).find()) {
+            return "CALL {}";
+        }
+        if (UNION.matcher(code).find()) {
+            return "UNION";
+        }
+        return null;
+    }
+
+    /**
+     * Quotes a property or parameter name with back-ticks when it is not
+     * a simple identifier.
+     * @param name the name to escape
+     * @return escaped name
+     */
+    static String escapeName(String name) {
+        if (isSimpleIdentifier(name)) {
+            return name;
+        }
+        return "`" + name.replace("`", "``") + "`";
+    }
+
+    private static boolean isSimpleIdentifier(String name) {
+        if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (!isIdentifierChar(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdentifierChar(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_';
+    }
+
+    // Replaces "$param" references with what the replacer returns for
+    // the parameter name (without the "$").
+    private static String replaceParameters(
+            String cypher, UnaryOperator<String> replacer) {
+        if (cypher == null) {
+            return null;
+        }
+        int len = cypher.length();
+        StringBuilder b = new StringBuilder(len + 32);
+        int i = 0;
+        while (i < len) {
+            char ch = cypher.charAt(i);
+            char next = i + 1 < len ? cypher.charAt(i + 1) : 0;
+            int end;
+            if (ch == '\'' || ch == '"' || ch == '`') {
+                end = skipQuoted(cypher, i);
+            } else if (ch == '/' && next == '/') {
+                end = cypher.indexOf('\n', i);
+                end = end == -1 ? len : end;
+            } else if (ch == '/' && next == '*') {
+                end = cypher.indexOf("*/", i + 2);
+                end = end == -1 ? len : end + 2;
+            } else if (ch == '$') {
+                end = parameterEnd(cypher, i);
+                if (end > i + 1) {
+                    String name = cypher.substring(i + 1, end);
+                    if (name.startsWith("`")) {
+                        name = name.substring(1, name.length() - 1)
+                                .replace("``", "`");
+                    }
+                    b.append(replacer.apply(name));
+                    i = end;
+                    continue;
+                }
+                end = i + 1;
+            } else {
+                end = i + 1;
+            }
+            b.append(cypher, i, end);
+            i = end;
+        }
+        return b.toString();
+    }
+
+    // Replaces quoted sections and comments with spaces, so only Cypher
+    // keywords, names and symbols remain.
+    private static String stripLiterals(String cypher) {
+        int len = cypher.length();
+        StringBuilder b = new StringBuilder(len);
+        int i = 0;
+        while (i < len) {
+            char ch = cypher.charAt(i);
+            char next = i + 1 < len ? cypher.charAt(i + 1) : 0;
+            int end;
+            if (ch == '\'' || ch == '"' || ch == '`') {
+                end = skipQuoted(cypher, i);
+            } else if (ch == '/' && next == '/') {
+                end = cypher.indexOf('\n', i);
+                end = end == -1 ? len : end;
+            } else if (ch == '/' && next == '*') {
+                end = cypher.indexOf("*/", i + 2);
+                end = end == -1 ? len : end + 2;
+            } else {
+                b.append(ch);
+                i++;
+                continue;
+            }
+            for (; i < end; i++) {
+                b.append(' ');
+            }
+        }
+        return b.toString();
+    }
+
+    // Returns the index right after a quoted section starting at "start".
+    private static int skipQuoted(String cypher, int start) {
+        char quote = cypher.charAt(start);
+        int i = start + 1;
+        while (i < cypher.length()) {
+            char ch = cypher.charAt(i);
+            if (ch == '\\' && quote != '`') {
+                i += 2;
+            } else if (ch == quote) {
+                if (quote == '`' && i + 1 < cypher.length()
+                        && cypher.charAt(i + 1) == '`') {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return cypher.length();
+    }
+
+    // Returns the index right after a parameter starting at "start" ($),
+    // or start + 1 if not a valid parameter.
+    private static int parameterEnd(String cypher, int start) {
+        int i = start + 1;
+        if (i < cypher.length() && cypher.charAt(i) == '`') {
+            int end = skipQuoted(cypher, i);
+            return cypher.charAt(end - 1) == '`' && end - i > 2
+                    ? end : start + 1;
+        }
+        while (i < cypher.length() && isIdentifierChar(cypher.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,138 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.neo4j.driver.internal.value.NullValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.FieldType;
+
+/**
+ * <p>
+ * Converts document field values to native Neo4j parameter types.
+ * Single values are converted to a single typed value while multiple
+ * values are converted to a list of typed values. Values that cannot
+ * be converted are logged and sent as {@code null}.
+ * </p>
+ */
+final class FieldTypeConverter {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(FieldTypeConverter.class);
+
+    private FieldTypeConverter() {
+    }
+
+    /**
+     * Converts field values to the given type.
+     * @param field field name (for logging)
+     * @param type target type
+     * @param values field values
+     * @param joiner multi-values joiner, or {@code null}
+     * @return converted value
+     */
+    static Object convert(
+            String field, FieldType type, List<String> values, String joiner) {
+        if (type == FieldType.LIST) {
+            return values;
+        }
+        if (type == FieldType.STRING) {
+            if (values.isEmpty()) {
+                return NullValue.NULL;
+            }
+            return joiner != null
+                    ? StringUtils.join(values, joiner) : values.get(0);
+        }
+        if (values.size() == 1) {
+            Object value = convertValue(field, type, values.get(0));
+            return value == null ? NullValue.NULL : value;
+        }
+        List<Object> list = new ArrayList<>(values.size());
+        for (String v : values) {
+            Object value = convertValue(field, type, v);
+            if (value != null) {
+                list.add(value);
+            }
+        }
+        return list;
+    }
+
+    private static Object convertValue(
+            String field, FieldType type, String value) {
+        String v = StringUtils.trimToNull(value);
+        if (v == null) {
+            return null;
+        }
+        try {
+            switch (type) {
+            case LONG:
+                return Long.valueOf(v);
+            case DOUBLE:
+                return Double.valueOf(v);
+            case BOOLEAN:
+                Boolean bool = BooleanUtils.toBooleanObject(v);
+                if (bool == null) {
+                    throw new IllegalArgumentException("Not a boolean.");
+                }
+                return bool;
+            case DATETIME:
+                return toTemporal(v);
+            default:
+                return v;
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            LOG.warn("Value \"{}\" of field \"{}\" cannot be converted "
+                    + "to type {}. It will be ignored.", v, field, type);
+            return null;
+        }
+    }
+
+    // Supported formats, in order: epoch milliseconds, ISO date-time
+    // with offset or zone, ISO local date-time, ISO date, RFC 1123.
+    private static Object toTemporal(String value) {
+        if (StringUtils.isNumeric(value)) {
+            return Instant.ofEpochMilli(
+                    Long.parseLong(value)).atZone(ZoneOffset.UTC);
+        }
+        if (value.length() > 10 && value.charAt(4) == '-') {
+            try {
+                return ZonedDateTime.parse(
+                        value, DateTimeFormatter.ISO_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                return LocalDateTime.parse(
+                        value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            }
+        }
+        if (value.length() == 10) {
+            return LocalDate.parse(value, DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+        return ZonedDateTime.parse(
+                value, DateTimeFormatter.RFC_1123_DATE_TIME);
+    }
+}
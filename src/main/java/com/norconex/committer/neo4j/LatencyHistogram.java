@@ -0,0 +1,79 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Lock-free histogram of durations in milliseconds, with buckets
+ * doubling in size (0, 1, 2-3, 4-7, 8-15, ...). Percentiles are
+ * approximated to the upper bound of their bucket.
+ * </p>
+ */
+class LatencyHistogram {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long millis) {
+        long value = Math.max(0, millis);
+        counts.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+    long getMax() {
+        return max.get();
+    }
+    double getMean() {
+        long c = count.sum();
+        return c == 0 ? 0 : (double) sum.sum() / c;
+    }
+
+    /**
+     * Gets the approximate duration under which a given ratio of
+     * recorded durations fall.
+     * @param ratio value between 0 and 1 (e.g., 0.95)
+     * @return duration in milliseconds
+     */
+    long getPercentile(double ratio) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        long target = (long) Math.ceil(ratio * total);
+        long cumulated = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulated += counts.get(i);
+            if (cumulated >= target && cumulated > 0) {
+                // Upper bound of bucket i is 2^i - 1
+                long bound = i == 0 ? 0 : (1L << i) - 1;
+                return Math.min(bound, max.get());
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,198 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.norconex.committer.neo4j.CypherStatement.Query;
+import com.norconex.commons.lang.map.Properties;
+
+/**
+ * <p>
+ * Outgoing links of committed documents, written as relationships
+ * between nodes once their batch is committed. Rather than merging
+ * target nodes one by one for each document, links of a batch are
+ * written with a few bulk UNWIND statements, in this order:
+ * </p>
+ * <ol>
+ *   <li>Existing outgoing links of the documents are removed.</li>
+ *   <li>Missing nodes are created for all distinct sources and targets.
+ *   </li>
+ *   <li>Link relationships are created.</li>
+ * </ol>
+ * <p>
+ * Each statement is sent at most "linkBatchSize" rows at a time.
+ * </p>
+ */
+class LinkGraph {
+
+    static final String SOURCE_KEY = "source";
+    static final String TARGET_KEY = "target";
+
+    private final String linkField;
+    private final String idProperty;
+    private final int batchSize;
+    private final ParameterPlan idPlan;
+    private final String unlinkCypher;
+    private final String nodesCypher;
+    private final String linksCypher;
+
+    // Committed upserts with links not yet written, by reference
+    private final Map<String, CypherStatement> pending =
+            new LinkedHashMap<>();
+
+    LinkGraph(Neo4jCommitterConfig config) {
+        this.linkField = config.getLinkField();
+        this.idProperty = config.getNodeIdProperty();
+        this.batchSize = Math.max(1, config.getLinkBatchSize());
+        // IDs are converted like the node ID parameter of other statements
+        this.idPlan = new ParameterPlan(
+                "$" + CypherUtil.escapeName(idProperty), config);
+
+        String row = CypherUtil.UNWIND_ROW_VARIABLE;
+        String unwind = "UNWIND $" + CypherUtil.UNWIND_ROWS_PARAM
+                + " AS " + row + "\n";
+        String label = ":" + CypherUtil.escapeName(config.getLinkLabel());
+        String rel = ":" + CypherUtil.escapeName(config.getLinkRelationship());
+        String id = CypherUtil.escapeName(idProperty) + ": ";
+        unlinkCypher = unwind
+                + "MATCH (" + label + " { " + id + row + " })"
+                + "-[r" + rel + "]->()\n"
+                + "DELETE r";
+        nodesCypher = unwind
+                + "MERGE (" + label + " { " + id + row + " })";
+        linksCypher = unwind
+                + "MATCH (s" + label + " { " + id + row + "." + SOURCE_KEY
+                + " })\n"
+                + "MATCH (t" + label + " { " + id + row + "." + TARGET_KEY
+                + " })\n"
+                + "CREATE (s)-[" + rel + "]->(t)";
+    }
+
+    /**
+     * Gets the statements writing links, keyed by name.
+     * @return Cypher statements
+     */
+    Map<String, String> getCyphers() {
+        Map<String, String> cyphers = new LinkedHashMap<>();
+        cyphers.put("link graph unlinks", unlinkCypher);
+        cyphers.put("link graph nodes", nodesCypher);
+        cyphers.put("link graph links", linksCypher);
+        return cyphers;
+    }
+
+    /**
+     * Gets the distinct link targets of a document.
+     * @param meta document metadata
+     * @return link targets (never {@code null})
+     */
+    List<String> toLinks(Properties meta) {
+        List<String> values = meta.get(linkField);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        Set<String> links = new LinkedHashSet<>();
+        for (String value : values) {
+            if (StringUtils.isNotBlank(value)) {
+                links.add(value);
+            }
+        }
+        return new ArrayList<>(links);
+    }
+
+    /**
+     * Adds a committed upsert statement, replacing any previous one for
+     * the same reference.
+     * @param stmt committed statement
+     */
+    synchronized void add(CypherStatement stmt) {
+        pending.remove(stmt.getReference());
+        pending.put(stmt.getReference(), stmt);
+    }
+
+    /**
+     * Removes the statement added for a reference, if any, for instance
+     * when it was deleted since.
+     * @param reference document reference
+     */
+    synchronized void remove(String reference) {
+        pending.remove(reference);
+    }
+
+    /**
+     * Removes and returns all statements added so far, in order.
+     * @return statements
+     */
+    synchronized List<CypherStatement> drain() {
+        List<CypherStatement> stmts = new ArrayList<>(pending.values());
+        pending.clear();
+        return stmts;
+    }
+
+    /**
+     * Creates the queries writing the links of statements, in the order
+     * they must be executed, each in its own transaction.
+     * @param stmts upsert statements
+     * @return queries
+     */
+    List<Query> toQueries(Collection<CypherStatement> stmts) {
+        List<Object> sources = new ArrayList<>();
+        Set<String> nodes = new LinkedHashSet<>();
+        List<Object> links = new ArrayList<>();
+        for (CypherStatement stmt : stmts) {
+            Object source = toId(stmt.getReference());
+            sources.add(source);
+            nodes.add(stmt.getReference());
+            for (String target : stmt.getLinks()) {
+                nodes.add(target);
+                Map<String, Object> link = new HashMap<>();
+                link.put(SOURCE_KEY, source);
+                link.put(TARGET_KEY, toId(target));
+                links.add(link);
+            }
+        }
+        List<Object> nodeIds = new ArrayList<>(nodes.size());
+        nodes.forEach(node -> nodeIds.add(toId(node)));
+
+        List<Query> queries = new ArrayList<>();
+        addQueries(queries, 0, unlinkCypher, sources);
+        addQueries(queries, 1, nodesCypher, nodeIds);
+        addQueries(queries, 2, linksCypher, links);
+        return queries;
+    }
+
+    private void addQueries(
+            List<Query> queries, int step, String cypher, List<Object> rows) {
+        for (int i = 0; i < rows.size(); i += batchSize) {
+            queries.add(new Query(step, cypher, Collections.singletonMap(
+                    CypherUtil.UNWIND_ROWS_PARAM, rows.subList(
+                            i, Math.min(i + batchSize, rows.size())))));
+        }
+    }
+
+    private Object toId(String value) {
+        return idPlan.toValue(idProperty, value);
+    }
+}
@@ -0,0 +1,249 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.summary.ResultSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.core3.ICommitterRequest;
+import com.norconex.committer.neo4j.CypherStatement.Query;
+
+/**
+ * <p>
+ * Neo4j client using the driver asynchronous API. Each request is sent
+ * in its own asynchronous transaction, without waiting for previous ones
+ * to complete, up to a maximum number of transactions in flight.
+ * Once that maximum is reached, the calling thread waits for a transaction
+ * to complete before sending more. Requests for the same reference are
+ * only sent once the previous ones for that reference have completed.
+ * All transactions of a batch are completed when {@link #post(Iterator)}
+ * returns. Failed requests (and subsequent ones for the same reference)
+ * are then sent again synchronously, in order, with the same retry and
+ * failure handling as the blocking client.
+ * </p>
+ */
+class Neo4jAsyncClient extends Neo4jClient {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(Neo4jAsyncClient.class);
+
+    // Runs blocking work that must wait for asynchronous transactions
+    private final ExecutorService blockingExecutor =
+            Executors.newCachedThreadPool(new BasicThreadFactory.Builder()
+                    .namingPattern("neo4j-committer-async-%d")
+                    .daemon(true)
+                    .build());
+
+    public Neo4jAsyncClient(Neo4jCommitterConfig config) {
+        super(config);
+    }
+
+    @Override
+    void postBatch(Iterator<ICommitterRequest> it)
+            throws CommitterException {
+        Semaphore permits = new Semaphore(
+                Math.max(1, getConfig().getMaxInFlightTransactions()));
+        // Failed statements (and their failure) by position in the batch
+        Map<Integer, CypherStatement> failed = new ConcurrentSkipListMap<>();
+        Map<Integer, Throwable> errors = new ConcurrentHashMap<>();
+        // Last pending transaction for each reference, to preserve order.
+        // Completes with false if it failed (or was never sent).
+        Map<String, CompletableFuture<Boolean>> pending = new HashMap<>();
+        List<CypherStatement> chunked = new ArrayList<>();
+        int count = 0;
+        try {
+            while (it.hasNext()) {
+                CypherStatement stmt = toStatement(it.next());
+                if (stmt == null) {
+                    continue;
+                }
+                if (stmt.getChunkedContent() != null) {
+                    chunked.add(stmt);
+                }
+                int index = count++;
+                permits.acquire();
+                CompletableFuture<Boolean> previous = pending.getOrDefault(
+                        stmt.getReference(),
+                        CompletableFuture.completedFuture(true));
+                CompletableFuture<Boolean> future = previous
+                        .thenCompose(ok -> {
+                            if (!ok) {
+                                // Sent after the failed one, in order
+                                return CompletableFuture.completedFuture(
+                                        false);
+                            }
+                            return deleteRelationships(stmt)
+                                    .thenCompose(v -> execute(stmt))
+                                    .handle((v, e) -> {
+                                        if (e != null) {
+                                            errors.put(index, unwrap(e));
+                                        }
+                                        return e == null;
+                                    });
+                        })
+                        .whenComplete((ok, e) -> {
+                            permits.release();
+                            if (!Boolean.TRUE.equals(ok)) {
+                                failed.put(index, stmt);
+                            } else {
+                                committed(stmt);
+                            }
+                        });
+                pending.put(stmt.getReference(), future);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterException(
+                    "Interrupted while committing to Neo4j.", e);
+        } finally {
+            // Never leave transactions running after returning
+            CompletableFuture.allOf(pending.values().toArray(
+                    new CompletableFuture<?>[pending.size()]))
+                            .handle((v, e) -> null).join();
+        }
+        if (failed.isEmpty() && chunked.isEmpty()) {
+            LOG.debug("Sent {} requests to Neo4j asynchronously.", count);
+            return;
+        }
+        // Failed statements are retried and content chunks are sent
+        // from the calling thread
+        SessionConfig cfg = getSessionConfig();
+        try (Session session = getDriver().session(cfg)) {
+            Set<CypherStatement> skipped =
+                    Collections.newSetFromMap(new IdentityHashMap<>());
+            if (!failed.isEmpty()) {
+                LOG.warn("{} asynchronous request(s) failed or were not "
+                        + "sent. Sending them again, in order.",
+                        failed.size());
+            }
+            for (Entry<Integer, CypherStatement> en : failed.entrySet()) {
+                CypherStatement stmt = en.getValue();
+                Throwable e = errors.get(en.getKey());
+                if (e != null && !Retrier.isTransient(e)) {
+                    skipOrThrow(stmt, e, skipped);
+                } else {
+                    deleteRelationships(session, stmt);
+                    skipped.addAll(writeStatements(
+                            Collections.singletonList(stmt),
+                            stmts -> runInTransaction(session, stmt)));
+                }
+                if (!skipped.contains(stmt)) {
+                    committed(stmt);
+                }
+            }
+            for (CypherStatement stmt : chunked) {
+                if (!skipped.contains(stmt)) {
+                    writeChunks(session, stmt);
+                }
+            }
+            sessionCommitted(cfg, session.lastBookmark());
+        }
+        LOG.debug("Sent {} requests to Neo4j asynchronously.", count);
+    }
+
+    @Override
+    public void close() {
+        blockingExecutor.shutdownNow();
+        super.close();
+    }
+
+    // Relationships of a node to delete are deleted beforehand, once
+    // previous requests for the same reference have completed, in
+    // bounded blocking transactions that must not run on driver threads
+    private CompletableFuture<Void> deleteRelationships(
+            CypherStatement stmt) {
+        if (!stmt.isDelete() || !isDeletingRelationships()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+            SessionConfig cfg = getSessionConfig();
+            try (Session session = getDriver().session(cfg)) {
+                deleteRelationships(session, stmt);
+                sessionCommitted(cfg, session.lastBookmark());
+            } catch (CommitterException e) {
+                throw new CompletionException(e);
+            }
+        }, blockingExecutor);
+    }
+
+    private CompletableFuture<Void> execute(CypherStatement stmt) {
+        long start = System.nanoTime();
+        SessionConfig cfg = getSessionConfig();
+        AsyncSession session = getDriver().asyncSession(cfg);
+        return session.writeTransactionAsync(tx -> runQueries(tx, stmt))
+                .handle((summary, e) -> {
+                    getMetrics().transactionExecuted(
+                            System.nanoTime() - start, e == null);
+                    if (e == null) {
+                        sessionCommitted(cfg, session.lastBookmark());
+                    }
+                    return e;
+                })
+                .thenCompose(e -> session.closeAsync().thenApply(v -> {
+                    if (e != null) {
+                        throw new CompletionException(unwrap(e));
+                    }
+                    return (Void) null;
+                }))
+                .toCompletableFuture();
+    }
+
+    // Runs the statement queries one after the other
+    private static CompletionStage<ResultSummary> runQueries(
+            AsyncTransaction tx, CypherStatement stmt) {
+        CompletionStage<ResultSummary> stage =
+                CompletableFuture.completedFuture(null);
+        for (Query query : stmt.getQueries()) {
+            stage = stage.thenCompose(summary -> tx.runAsync(
+                    query.getCypher(), query.getParameters())
+                            .thenCompose(ResultCursor::consumeAsync));
+        }
+        return stage;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable t = e;
+        while (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+}
@@ -14,25 +14,40 @@
  */
 package com.norconex.committer.neo4j;
 
-import static org.apache.commons.lang3.StringUtils.trimToNull;
-
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.Config;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.SessionConfig.Builder;
-import org.neo4j.driver.internal.value.NullValue;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.exceptions.Neo4jException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +55,13 @@ import com.norconex.committer.core3.CommitterException;
 import com.norconex.committer.core3.DeleteRequest;
 import com.norconex.committer.core3.ICommitterRequest;
 import com.norconex.committer.core3.UpsertRequest;
+import com.norconex.committer.neo4j.BlobStore.Blob;
+import com.norconex.committer.neo4j.CypherStatement.Query;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentCompression;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentMode;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.Engine;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.WriteMode;
+import com.norconex.committer.neo4j.PipelineStatement.RequestType;
 import com.norconex.commons.lang.encrypt.EncryptionUtil;
 import com.norconex.commons.lang.map.Properties;
 import com.norconex.commons.lang.security.Credentials;
@@ -60,14 +82,80 @@ class Neo4jClient {
     private final Driver neo4jDriver;
     private final SessionConfig sessionConfig;
 
+    // Cypher statements wrapped in UNWIND, keyed by original statement
+    private final Map<String, String> unwindCyphers =
+            new ConcurrentHashMap<>();
+
+    // Only set when parallelism is greater than one
+    private final ExecutorService executor;
+
+    // Statements executed for each request type, in order
+    private final List<Step> upsertSteps;
+    private final List<Step> deleteSteps;
+    private final ParameterPlan chunkPlan;
+    private final Retrier retrier;
+    private final Neo4jCommitterMetrics metrics = new Neo4jCommitterMetrics();
+    // Only set when skipping unchanged documents
+    private ChecksumStore checksums;
+    // Only set with the external content mode
+    private BlobStore blobs;
+    // Only set when deleting relationships before nodes
+    private RelationshipDeleter relationships;
+    // Only set in link graph mode
+    private final LinkGraph links;
+    private final BookmarkChain bookmarks = new BookmarkChain();
+    // Only used when grouping statements in transactions
+    private final TransactionSizer sizer;
+
     public Neo4jClient(Neo4jCommitterConfig config) {
         this.config = Objects.requireNonNull(
                 config, "'config' must not be null.");
+        this.upsertSteps = createSteps("upsertCypher",
+                config.getUpsertCypher(), RequestType.UPSERT);
+        this.deleteSteps = createSteps("deleteCypher",
+                config.getDeleteCypher(), RequestType.DELETE);
+        this.chunkPlan = new ParameterPlan(config.getChunkCypher(), config);
+        this.links = StringUtils.isNotBlank(config.getLinkField())
+                ? new LinkGraph(config) : null;
+        this.retrier = new Retrier(config.getMaxTransientRetries(),
+                config.getTransientRetryDelay(),
+                config.getMaxTransientRetryDelay(), metrics::retried);
         this.neo4jDriver = createNeo4jDriver();
-        this.sessionConfig = createNeo4jSessionConfig();
+        if (config.isJmxEnabled()) {
+            metrics.setDriver(neo4jDriver);
+        }
+        this.sessionConfig = createNeo4jSessionConfig(null);
+        this.sizer = new TransactionSizer(
+                config.getWriteMode() == WriteMode.SESSION
+                        ? config.getTransactionSize() : 0,
+                config.getTransactionMaxBytes(),
+                config.getTransactionTargetLatency());
+        this.executor = createExecutor();
+    }
+
+    // The main upsert or delete Cypher (if set), followed by pipeline
+    // statements for the same request type
+    private List<Step> createSteps(
+            String name, String cypher, RequestType requestType) {
+        List<Step> steps = new ArrayList<>();
+        if (StringUtils.isNotBlank(cypher)) {
+            steps.add(new Step(steps.size(), name, cypher, null));
+        }
+        for (PipelineStatement ps : config.getStatements()) {
+            if (ps.getRequestType() == requestType
+                    && StringUtils.isNotBlank(ps.getCypher())) {
+                steps.add(new Step(
+                        steps.size(), ps.getName(), ps.getCypher(), ps));
+            }
+        }
+        steps.forEach(step -> LOG.debug("{} \"{}\" parameters: {}",
+                requestType, step.name, step.plan.getParameterNames()));
+        return steps;
     }
 
     private Driver createNeo4jDriver() {
+        Config driverConfig = config.getDriverSettings().toDriverConfig(
+                config.isJmxEnabled(), config.getMaxTransientRetries() > 0);
         Driver driver;
         Credentials creds = config.getCredentials();
         if (creds.isSet()) {
@@ -75,87 +163,981 @@ class Neo4jClient {
                     creds.getUsername(),
                     EncryptionUtil.decrypt(
                             creds.getPassword(),
-                            creds.getPasswordKey())));
+                            creds.getPasswordKey())), driverConfig);
         } else {
-            driver = GraphDatabase.driver(config.getUri());
+            driver = GraphDatabase.driver(config.getUri(), driverConfig);
+        }
+        if (StringUtils.startsWith(config.getUri(), "neo4j")) {
+            LOG.info("Neo4j Driver loaded, routing writes to the cluster "
+                    + "leader{}.", config.isChainBookmarks()
+                            ? ", with bookmarks chained across sessions"
+                            : "");
+        } else {
+            LOG.info("Neo4j Driver loaded.");
         }
-        LOG.info("Neo4j Driver loaded.");
         return driver;
     }
-    private SessionConfig createNeo4jSessionConfig() {
-        Builder b = SessionConfig.builder();
+    private SessionConfig createNeo4jSessionConfig(Bookmark bookmark) {
+        Builder b = SessionConfig.builder()
+                .withDefaultAccessMode(AccessMode.WRITE);
         if (StringUtils.isNotBlank(this.config.getDatabase())) {
             b.withDatabase(config.getDatabase());
         }
+        if (bookmark != null) {
+            b.withBookmarks(bookmark);
+        }
         return b.build();
     }
 
+    private ExecutorService createExecutor() {
+        if (config.getParallelism() <= 1
+                || config.getEngine() != Engine.BLOCKING) {
+            return null;
+        }
+        return Executors.newFixedThreadPool(config.getParallelism(),
+                new BasicThreadFactory.Builder()
+                        .namingPattern("neo4j-committer-%d")
+                        .daemon(true)
+                        .build());
+    }
+
     public void post(Iterator<ICommitterRequest> it) throws CommitterException {
-        while (it.hasNext()) {
-            try {
-                ICommitterRequest req = it.next();
-                if (req instanceof UpsertRequest) {
-                    postUpsert((UpsertRequest) req);
-                } else if (req instanceof DeleteRequest) {
-                    postDelete((DeleteRequest) req);
-                } else {
-                    throw new CommitterException("Unsupported request:" + req);
+        CountingIterator counting = new CountingIterator(it);
+        CoalescingIterator coalescing = null;
+        if (config.isCoalesceRequests() || config.isPhasedWrites()) {
+            coalescing = new CoalescingIterator(counting,
+                    config.getCoalesceWindowSize(), config.isPhasedWrites());
+        }
+        long start = System.nanoTime();
+        try {
+            postBatch(coalescing != null ? coalescing : counting);
+            writeLinks();
+        } finally {
+            metrics.batchCommitted(
+                    counting.count, System.nanoTime() - start);
+            if (coalescing != null) {
+                LOG.debug("Coalesced {} superseded request(s).",
+                        coalescing.getCoalescedCount());
+                metrics.requestsCoalesced(coalescing.getCoalescedCount());
+            }
+        }
+    }
+
+    /**
+     * Converts requests to statements and appends them to a spool, for a
+     * {@link SpoolFlusher} to write them to Neo4j.
+     * @param it committer requests
+     * @param spool spool to append statements to
+     * @throws CommitterException could not convert or spool requests
+     */
+    void spool(Iterator<ICommitterRequest> it, Spool spool)
+            throws CommitterException {
+        Iterator<ICommitterRequest> requests = it;
+        CoalescingIterator coalescing = null;
+        if (config.isCoalesceRequests() || config.isPhasedWrites()) {
+            coalescing = new CoalescingIterator(it,
+                    config.getCoalesceWindowSize(), config.isPhasedWrites());
+            requests = coalescing;
+        }
+        List<CypherStatement> stmts = new ArrayList<>();
+        while (requests.hasNext()) {
+            CypherStatement stmt = toStatement(requests.next());
+            if (stmt != null) {
+                stmts.add(stmt);
+            }
+        }
+        if (coalescing != null) {
+            metrics.requestsCoalesced(coalescing.getCoalescedCount());
+        }
+        try {
+            spool.append(stmts);
+        } catch (IOException e) {
+            throw new CommitterException("Cannot spool statements.", e);
+        }
+        LOG.debug("Spooled {} statement(s).", stmts.size());
+    }
+
+    /**
+     * Writes statements prepared beforehand, such as spooled ones, in
+     * the same session. With {@link WriteMode#UNWIND}, statements are
+     * grouped as UNWIND rows, otherwise they are sent in explicit
+     * transactions. Transactions are split as with the write mode
+     * (see {@link TransactionSizer}).
+     * @param stmts statements to write
+     * @param written called with each group of statements once written
+     *     (or skipped)
+     * @throws CommitterException could not write statements
+     */
+    void postStatements(List<CypherStatement> stmts,
+            Consumer<List<CypherStatement>> written)
+                    throws CommitterException {
+        long start = System.nanoTime();
+        try {
+            SessionConfig cfg = getSessionConfig();
+            try (Session session = neo4jDriver.session(cfg)) {
+                StatementWriter writer =
+                        config.getWriteMode() == WriteMode.UNWIND
+                                ? group -> runUnwind(session, group)
+                                : group -> runInExplicitTransaction(
+                                        session, group);
+                int from = 0;
+                long bytes = 0;
+                for (int i = 0; i < stmts.size(); i++) {
+                    bytes += TransactionSizer.estimateSize(stmts.get(i));
+                    if (i + 1 == stmts.size()
+                            || sizer.isFull(i + 1 - from, bytes)) {
+                        List<CypherStatement> group =
+                                stmts.subList(from, i + 1);
+                        write(session, group, writer, sizer);
+                        written.accept(group);
+                        from = i + 1;
+                        bytes = 0;
+                    }
                 }
-            } catch (IOException e) {
-                throw new CommitterException(
-                        "Cannot perform commit request.", e);
+                sessionCommitted(cfg, session.lastBookmark());
             }
+            writeLinks();
+        } finally {
+            metrics.batchCommitted(stmts.size(), System.nanoTime() - start);
+        }
+    }
+
+    void postBatch(Iterator<ICommitterRequest> it) throws CommitterException {
+        if (executor == null) {
+            postPartition(it);
+        } else {
+            postParallel(it);
+        }
+    }
+
+    public void createNodeIdConstraints() throws CommitterException {
+        try (Session session = neo4jDriver.session(sessionConfig)) {
+            new ConstraintInitializer(config).initialize(session);
+        }
+    }
+
+    public void validateQueries() throws CommitterException {
+        Map<String, String> cyphers = new LinkedHashMap<>();
+        List<Step> steps = new ArrayList<>(upsertSteps);
+        steps.addAll(deleteSteps);
+        for (Step step : steps) {
+            String name = StringUtils.defaultIfBlank(step.name, "statement");
+            if (cyphers.containsKey(name)) {
+                name += " #" + step.index;
+            }
+            cyphers.put(name, config.getWriteMode() == WriteMode.UNWIND
+                    ? unwindCyphers.computeIfAbsent(
+                            step.cypher, CypherUtil::toUnwindCypher)
+                    : step.cypher);
+        }
+        if (isChunkedContent()) {
+            cyphers.put("chunkCypher", config.getChunkCypher());
+        }
+        if (links != null) {
+            cyphers.putAll(links.getCyphers());
+        }
+        if (relationships != null) {
+            cyphers.putAll(relationships.getCyphers());
+        }
+        try (Session session = neo4jDriver.session(sessionConfig)) {
+            new QueryValidator(cyphers).validate(session);
         }
     }
 
     public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         neo4jDriver.close();
         LOG.info("Neo4j driver closed.");
+        if (checksums != null) {
+            checksums.close();
+        }
     }
 
-    private void postUpsert(UpsertRequest req) throws IOException {
-        Properties meta = req.getMetadata();
-        if (StringUtils.isNotBlank(config.getNodeIdProperty())) {
-            meta.set(config.getNodeIdProperty(), req.getReference());
+    /**
+     * Sets the store used to skip upserts unchanged since last committed.
+     * The store is closed with this client.
+     * @param checksums checksum store
+     */
+    void setChecksumStore(ChecksumStore checksums) {
+        this.checksums = checksums;
+    }
+    /**
+     * Sets the store where content is written with the external
+     * content mode.
+     * @param blobs blob store
+     */
+    void setBlobStore(BlobStore blobs) {
+        this.blobs = blobs;
+    }
+    /**
+     * Sets how relationships of deleted nodes are deleted beforehand.
+     * @param relationships relationship deleter
+     */
+    void setRelationshipDeleter(RelationshipDeleter relationships) {
+        this.relationships = relationships;
+    }
+    boolean isDeletingRelationships() {
+        return relationships != null;
+    }
+
+    Neo4jCommitterConfig getConfig() {
+        return config;
+    }
+    Neo4jCommitterMetrics getMetrics() {
+        return metrics;
+    }
+    Driver getDriver() {
+        return neo4jDriver;
+    }
+    /**
+     * Gets the configuration of a new session. When chaining bookmarks,
+     * the session starts with the bookmark of the latest committed
+     * sessions.
+     * @return session configuration
+     */
+    SessionConfig getSessionConfig() {
+        if (config.isChainBookmarks()) {
+            return createNeo4jSessionConfig(bookmarks.getBookmark());
+        }
+        return sessionConfig;
+    }
+    /**
+     * Records the last bookmark of a committed session.
+     * @param sessionConfig configuration the session was created with
+     * @param bookmark last bookmark of the session
+     */
+    void sessionCommitted(SessionConfig sessionConfig, Bookmark bookmark) {
+        bookmarks.chain(sessionConfig.bookmarks(), bookmark);
+    }
+    /**
+     * Gets the bookmark of the latest committed sessions.
+     * @return bookmark (never {@code null}, empty if none)
+     */
+    Bookmark getLastBookmark() {
+        return bookmarks.getBookmark();
+    }
+
+    // Splits requests into partitions based on their reference and
+    // commits each partition concurrently. Requests for the same reference
+    // always end up in the same partition, in their original order.
+    private void postParallel(Iterator<ICommitterRequest> it)
+            throws CommitterException {
+        int parallelism = config.getParallelism();
+        List<List<ICommitterRequest>> partitions = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            partitions.add(new ArrayList<>());
         }
-        if (StringUtils.isNotBlank(config.getNodeContentProperty())) {
-            meta.set(config.getNodeContentProperty(), IOUtils.toString(
-                    req.getContent(), StandardCharsets.UTF_8));
+        while (it.hasNext()) {
+            ICommitterRequest req = it.next();
+            partitions.get(Math.floorMod(Objects.hashCode(
+                    req.getReference()), parallelism)).add(req);
         }
-        try (Session session = neo4jDriver.session(sessionConfig)) {
-            session.writeTransaction(tx -> {
-                tx.run(config.getUpsertCypher(), toObjectMap(meta));
-                return null;
-            });
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (List<ICommitterRequest> partition : partitions) {
+            if (!partition.isEmpty()) {
+                futures.add(executor.submit(() -> {
+                    postPartition(partition.iterator());
+                    return null;
+                }));
+            }
         }
+
+        // Wait for all partitions to complete before reporting failures
+        CommitterException error = null;
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CommitterException(
+                        "Interrupted while committing to Neo4j.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (error != null) {
+                    error.addSuppressed(cause);
+                } else if (cause instanceof CommitterException) {
+                    error = (CommitterException) cause;
+                } else {
+                    error = new CommitterException(
+                            "Cannot perform commit request.", cause);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        LOG.debug("Committed {} partition(s) in parallel.", futures.size());
     }
 
-    private void postDelete(DeleteRequest req) {
-        Properties meta = req.getMetadata();
-        Optional.ofNullable(trimToNull(config.getNodeIdProperty())).ifPresent(
-                fld -> meta.set(fld, req.getReference()));
-        try (Session session = neo4jDriver.session(sessionConfig)) {
-            session.writeTransaction(tx -> {
-                tx.run(config.getDeleteCypher(), toObjectMap(meta));
-                return null;
-            });
+    private void postPartition(Iterator<ICommitterRequest> it)
+            throws CommitterException {
+        WriteMode mode = config.getWriteMode();
+        if (mode == WriteMode.UNWIND) {
+            postUnwind(it);
+        } else if (mode == WriteMode.SESSION) {
+            postSession(it);
+        } else {
+            postDocuments(it);
+        }
+    }
+
+    // Sends each request in its own session and transaction.
+    private void postDocuments(Iterator<ICommitterRequest> it)
+            throws CommitterException {
+        while (it.hasNext()) {
+            CypherStatement stmt = toStatement(it.next());
+            if (stmt == null) {
+                continue;
+            }
+            SessionConfig cfg = getSessionConfig();
+            try (Session session = neo4jDriver.session(cfg)) {
+                write(session, Collections.singletonList(stmt),
+                        stmts -> runInTransaction(session, stmt), null);
+                sessionCommitted(cfg, session.lastBookmark());
+            }
+        }
+    }
+
+    // Sends all requests using the same session, either each in its own
+    // managed transaction, or in explicit transactions committed every
+    // "transactionSize" statements (or fewer, see TransactionSizer).
+    private void postSession(Iterator<ICommitterRequest> it)
+            throws CommitterException {
+        boolean explicit = config.getTransactionSize() > 0;
+        SessionConfig cfg = getSessionConfig();
+        try (Session session = neo4jDriver.session(cfg)) {
+            StatementWriter writer = explicit
+                    ? stmts -> runInExplicitTransaction(session, stmts)
+                    : stmts -> runInTransaction(session, stmts.get(0));
+            writeGroups(session, it, writer, explicit ? sizer : null);
+            sessionCommitted(cfg, session.lastBookmark());
+        }
+    }
+
+    // Sends all requests of a batch in a single transaction (or more,
+    // see TransactionSizer), grouping consecutive requests sharing the
+    // same Cypher as UNWIND rows.
+    private void postUnwind(Iterator<ICommitterRequest> it)
+            throws CommitterException {
+        SessionConfig cfg = getSessionConfig();
+        try (Session session = neo4jDriver.session(cfg)) {
+            writeGroups(session, it,
+                    group -> runUnwind(session, group), sizer);
+            sessionCommitted(cfg, session.lastBookmark());
+        }
+    }
+
+    // Writes statements in groups, each until the sizer deems it full,
+    // or one by one without a sizer.
+    private void writeGroups(Session session, Iterator<ICommitterRequest> it,
+            StatementWriter writer, TransactionSizer sizer)
+                    throws CommitterException {
+        List<CypherStatement> group = new ArrayList<>();
+        long groupBytes = 0;
+        while (it.hasNext()) {
+            CypherStatement stmt = toStatement(it.next());
+            if (stmt != null) {
+                group.add(stmt);
+                if (sizer != null) {
+                    groupBytes += TransactionSizer.estimateSize(stmt);
+                }
+            }
+            if (!group.isEmpty() && (sizer == null || !it.hasNext()
+                    || sizer.isFull(group.size(), groupBytes))) {
+                write(session, group, writer, sizer);
+                group = new ArrayList<>();
+                groupBytes = 0;
+            }
+        }
+    }
+
+    // Writes statements followed by their content chunks, if any.
+    // When deleting relationships first, statements are split at each
+    // delete, so relationships are deleted once previous statements
+    // (which could create some) are written. Split groups were not sized
+    // by the sizer, so they do not adjust it.
+    private void write(Session session, List<CypherStatement> stmts,
+            StatementWriter writer, TransactionSizer sizer)
+                    throws CommitterException {
+        Set<CypherStatement> skipped =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        int from = 0;
+        for (int i = 0; i < stmts.size(); i++) {
+            if (relationships != null && stmts.get(i).isDelete()) {
+                skipped.addAll(writeStatements(
+                        stmts.subList(from, i), writer, null));
+                deleteRelationships(session, stmts.get(i));
+                from = i;
+            }
+        }
+        skipped.addAll(writeStatements(stmts.subList(from, stmts.size()),
+                writer, from == 0 ? sizer : null));
+        for (CypherStatement stmt : stmts) {
+            if (!skipped.contains(stmt)) {
+                writeChunks(session, stmt);
+                committed(stmt);
+            }
+        }
+    }
+
+    /**
+     * Counts a committed statement and records its checksum, if any, so
+     * it is skipped next time if unchanged. In link graph mode, upsert
+     * checksums are only recorded once their links are written.
+     * Deletes evict the checksum, possibly recorded by an upsert
+     * committed before them in the same transaction.
+     * @param stmt the committed statement
+     */
+    void committed(CypherStatement stmt) {
+        if (stmt.isDelete()) {
+            metrics.deleteSent();
+        } else {
+            metrics.upsertSent();
+            contentSent(stmt);
+        }
+        if (links != null) {
+            if (stmt.getLinks() != null) {
+                links.add(stmt);
+                return;
+            }
+            links.remove(stmt.getReference());
+        }
+        storeChecksum(stmt);
+    }
+    private void storeChecksum(CypherStatement stmt) {
+        if (checksums == null) {
+            return;
+        }
+        if (stmt.isDelete()) {
+            checksums.evict(stmt.getReference());
+        } else if (stmt.getChecksum() != null) {
+            checksums.store(stmt.getReference(), stmt.getChecksum());
+        }
+    }
+
+    // Writes the links of documents committed so far, with each bulk
+    // statement in its own transaction.
+    private void writeLinks() throws CommitterException {
+        if (links == null) {
+            return;
+        }
+        List<CypherStatement> stmts = links.drain();
+        if (stmts.isEmpty()) {
+            return;
+        }
+        List<Query> queries = links.toQueries(stmts);
+        SessionConfig cfg = getSessionConfig();
+        try (Session session = neo4jDriver.session(cfg)) {
+            for (Query query : queries) {
+                retrier.run(() -> timed(() -> session.writeTransaction(tx -> {
+                    tx.run(query.getCypher(), query.getParameters());
+                    return null;
+                })));
+            }
+            sessionCommitted(cfg, session.lastBookmark());
+        } catch (Neo4jException e) {
+            throw new CommitterException("Cannot write links.", e);
+        }
+        int count = stmts.stream().mapToInt(s -> s.getLinks().size()).sum();
+        metrics.linksCreated(count);
+        LOG.debug("Wrote {} link(s) from {} document(s) in {} statement(s).",
+                count, stmts.size(), queries.size());
+        stmts.forEach(this::storeChecksum);
+    }
+
+    /**
+     * Deletes the relationships of the node a delete statement is for,
+     * in transactions of bounded size, if enabled. Relationships stay
+     * deleted even if the delete statement later fails.
+     * @param session Neo4j session
+     * @param stmt statement
+     * @throws CommitterException could not delete relationships
+     */
+    void deleteRelationships(Session session, CypherStatement stmt)
+            throws CommitterException {
+        if (relationships == null || !stmt.isDelete()) {
+            return;
+        }
+        int chunkSize = relationships.getChunkSize();
+        long count = 0;
+        try {
+            for (Query query : relationships.toQueries(
+                    stmt.getReference())) {
+                int[] deleted = new int[1];
+                do {
+                    retrier.run(() -> timed(() -> deleted[0] =
+                            runDeleteRelationships(session, query)));
+                    count += deleted[0];
+                } while (!relationships.isInTransactions()
+                        && deleted[0] >= chunkSize);
+            }
+        } catch (Neo4jException e) {
+            throw new CommitterException("Cannot delete relationships of: "
+                    + stmt.getReference(), e);
+        }
+        LOG.debug("Deleted {} relationship(s) of \"{}\" before deleting it.",
+                count, stmt.getReference());
+    }
+    private int runDeleteRelationships(Session session, Query query) {
+        // "CALL {} IN TRANSACTIONS" is only allowed in auto-commit
+        // transactions
+        if (relationships.isInTransactions()) {
+            return session.run(query.getCypher(), query.getParameters())
+                    .consume().counters().relationshipsDeleted();
+        }
+        return session.writeTransaction(tx -> tx.run(
+                query.getCypher(), query.getParameters())
+                        .consume().counters().relationshipsDeleted());
+    }
+
+    /**
+     * Writes statements as a unit, retrying on transient failures.
+     * When bisecting failures, a unit failing for other reasons is split
+     * in halves, recursively, until failing statements are isolated.
+     * Those are then logged and skipped.
+     * @param stmts statements to write
+     * @param writer writes statements as a unit
+     * @return skipped statements
+     * @throws CommitterException could not write statements
+     */
+    List<CypherStatement> writeStatements(
+            List<CypherStatement> stmts, StatementWriter writer)
+                    throws CommitterException {
+        return writeStatements(stmts, writer, null);
+    }
+    /**
+     * Writes statements as a unit, like
+     * {@link #writeStatements(List, StatementWriter)}, adjusting the
+     * number of statements per transaction from the duration of the
+     * unit. Units split when bisecting failures are not accounted for,
+     * their size being dictated by failures rather than by the sizer.
+     * @param stmts statements to write
+     * @param writer writes statements as a unit
+     * @param sizer transaction sizer, or {@code null}
+     * @return skipped statements
+     * @throws CommitterException could not write statements
+     */
+    List<CypherStatement> writeStatements(List<CypherStatement> stmts,
+            StatementWriter writer, TransactionSizer sizer)
+                    throws CommitterException {
+        List<CypherStatement> skipped = new ArrayList<>();
+        writeStatements(stmts, writer, sizer, skipped);
+        return skipped;
+    }
+    private void writeStatements(List<CypherStatement> stmts,
+            StatementWriter writer, TransactionSizer sizer,
+            List<CypherStatement> skipped) throws CommitterException {
+        if (stmts.isEmpty()) {
+            return;
+        }
+        try {
+            retrier.run(() -> timed(() -> {
+                long start = System.nanoTime();
+                writer.write(stmts);
+                if (sizer != null) {
+                    sizer.committed(stmts.size(), System.nanoTime() - start);
+                }
+            }));
+        } catch (Neo4jException e) {
+            if (stmts.size() == 1 || !isBisectable(e)) {
+                skipOrThrow(stmts.get(0), e, skipped);
+                return;
+            }
+            LOG.warn("Could not commit {} statements together, splitting "
+                    + "them to isolate failures. Cause: {}",
+                    stmts.size(), e.getMessage());
+            int half = stmts.size() / 2;
+            writeStatements(stmts.subList(0, half), writer, null, skipped);
+            writeStatements(stmts.subList(half, stmts.size()),
+                    writer, null, skipped);
+        }
+    }
+
+    /**
+     * Skips a statement that failed for non-transient reasons when
+     * bisecting failures, or throws an exception otherwise.
+     * @param stmt the failed statement
+     * @param e the failure
+     * @param skipped where to add the statement if skipped
+     * @throws CommitterException the statement is not skipped
+     */
+    void skipOrThrow(CypherStatement stmt, Throwable e,
+            Collection<CypherStatement> skipped) throws CommitterException {
+        if (!isBisectable(e)) {
+            throw new CommitterException(
+                    "Cannot perform commit request.", e);
+        }
+        LOG.error("Could not commit \"{}\". It will be skipped.",
+                stmt.getReference(), e);
+        skipped.add(stmt);
+        metrics.requestSkipped();
+    }
+
+    private boolean isBisectable(Throwable e) {
+        return config.isBisectFailures()
+                && e instanceof Neo4jException && !Retrier.isTransient(e);
+    }
+
+    // Runs a transaction, recording its duration and outcome
+    void timed(Runnable transaction) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            transaction.run();
+            success = true;
+        } finally {
+            metrics.transactionExecuted(System.nanoTime() - start, success);
         }
     }
 
-    private Map<String, Object> toObjectMap(Properties meta) {
-        Map<String, Object> map = new HashMap<>();
-        meta.forEach((k, v) -> {
-            if (StringUtils.isNotBlank(config.getMultiValuesJoiner())) {
-                map.put(k, StringUtils.join(v, config.getMultiValuesJoiner()));
-            } else {
-                map.put(k, v);
+    void runInTransaction(Session session, CypherStatement stmt) {
+        session.writeTransaction(tx -> {
+            for (Query query : stmt.getQueries()) {
+                tx.run(query.getCypher(), query.getParameters());
             }
+            return null;
         });
+    }
 
-        // Add optional parameters
-        config.getOptionalParameters().forEach(param -> {
-            map.computeIfAbsent(param, p -> NullValue.NULL);
+    private void runInExplicitTransaction(
+            Session session, List<CypherStatement> stmts) {
+        try (Transaction tx = session.beginTransaction()) {
+            for (CypherStatement stmt : stmts) {
+                for (Query query : stmt.getQueries()) {
+                    tx.run(query.getCypher(), query.getParameters());
+                }
+            }
+            tx.commit();
+        }
+        LOG.debug("Committed a transaction of {} statement(s).",
+                stmts.size());
+    }
+
+    // Consecutive requests of the same type are grouped in a "run", where
+    // each pipeline step is sent as a single UNWIND statement, in step
+    // order. A run ends when a reference repeats, so that requests for
+    // the same reference are never reordered.
+    private void runUnwind(Session session, List<CypherStatement> stmts) {
+        List<RowGroup> groups = new ArrayList<>();
+        Map<Integer, RowGroup> run = new TreeMap<>();
+        Set<String> runRefs = new HashSet<>();
+        boolean runDeletes = false;
+        for (CypherStatement stmt : stmts) {
+            if (stmt.isDelete() != runDeletes
+                    || !runRefs.add(stmt.getReference())) {
+                groups.addAll(run.values());
+                run.clear();
+                runRefs.clear();
+                runRefs.add(stmt.getReference());
+                runDeletes = stmt.isDelete();
+            }
+            for (Query query : stmt.getQueries()) {
+                run.computeIfAbsent(query.getStep(), step -> new RowGroup(
+                        unwindCyphers.computeIfAbsent(query.getCypher(),
+                                CypherUtil::toUnwindCypher)))
+                                        .rows.add(query.getParameters());
+            }
+        }
+        groups.addAll(run.values());
+        session.writeTransaction(tx -> {
+            for (RowGroup g : groups) {
+                tx.run(g.cypher, Collections.singletonMap(
+                        CypherUtil.UNWIND_ROWS_PARAM, g.rows));
+            }
+            return null;
         });
-        return map;
+        LOG.debug("Sent {} requests to Neo4j in {} UNWIND statement(s).",
+                stmts.size(), groups.size());
+    }
+
+    // Reads the statement chunked content, if any, and sends each chunk
+    // in its own transaction.
+    void writeChunks(Session session, CypherStatement stmt)
+            throws CommitterException {
+        if (stmt.getChunkedContent() == null) {
+            return;
+        }
+        int index = 0;
+        try (ContentReader reader = new ContentReader(
+                stmt.getChunkedContent(), config.getContentChunkSize())) {
+            String chunk;
+            while ((chunk = reader.nextChunk()) != null) {
+                Map<String, Object> params = new HashMap<>();
+                chunkPlan.putValue(params,
+                        config.getNodeIdProperty(), stmt.getReference());
+                chunkPlan.putValue(
+                        params, config.getNodeContentProperty(), chunk);
+                params.put(Neo4jCommitterConfig.CHUNK_INDEX_PARAM, index);
+                CypherStatement chunkStmt = new CypherStatement(
+                        stmt.getReference(), config.getChunkCypher(), params);
+                retrier.run(() -> timed(
+                        () -> runInTransaction(session, chunkStmt)));
+                metrics.contentSent(chunk);
+                index++;
+            }
+        } catch (IOException | Neo4jException e) {
+            throw new CommitterException("Cannot write content of: "
+                    + stmt.getReference(), e);
+        }
+        LOG.debug("Sent {} content chunk(s) for \"{}\".",
+                index, stmt.getReference());
+    }
+
+    /**
+     * Converts a committer request to a Cypher statement.
+     * @param req committer request
+     * @return statement, or {@code null} if no query applies to the
+     *     request, or if the request is an upsert unchanged since
+     *     last committed
+     * @throws CommitterException unsupported request or content not read
+     */
+    CypherStatement toStatement(ICommitterRequest req)
+            throws CommitterException {
+        try {
+            if (req instanceof UpsertRequest) {
+                UpsertRequest upsert = (UpsertRequest) req;
+                CypherStatement stmt = new CypherStatement(
+                        req.getReference(), false,
+                        toUpsertQueries(upsert),
+                        isChunkedContent() ? upsert.getContent() : null);
+                if (links != null) {
+                    stmt.setLinks(links.toLinks(upsert.getMetadata()));
+                }
+                if (stmt.getQueries().isEmpty() && stmt.getLinks() == null) {
+                    LOG.debug("No upsert statement applies to: \"{}\".",
+                            req.getReference());
+                    return null;
+                }
+                if (isUnchanged(stmt)) {
+                    LOG.debug("Unchanged since last committed, not sent: "
+                            + "\"{}\".", req.getReference());
+                    metrics.upsertUnchanged();
+                    return null;
+                }
+                return stmt;
+            }
+            if (req instanceof DeleteRequest) {
+                if (checksums != null) {
+                    checksums.evict(req.getReference());
+                }
+                CypherStatement stmt = new CypherStatement(
+                        req.getReference(), true,
+                        toDeleteQueries((DeleteRequest) req), null);
+                if (stmt.getQueries().isEmpty()) {
+                    LOG.debug("No delete statement applies to: \"{}\".",
+                            req.getReference());
+                    return null;
+                }
+                return stmt;
+            }
+        } catch (IOException e) {
+            throw new CommitterException(
+                    "Cannot perform commit request.", e);
+        }
+        throw new CommitterException("Unsupported request:" + req);
+    }
+
+    private List<Query> toUpsertQueries(UpsertRequest req)
+            throws IOException {
+        List<Query> queries = new ArrayList<>(upsertSteps.size());
+        ContentCompression compression = config.getContentCompression();
+        String content = null;
+        byte[] compressed = null;
+        Blob blob = null;
+        for (Step step : upsertSteps) {
+            if (!step.matches(req.getMetadata())) {
+                continue;
+            }
+            Map<String, Object> params =
+                    step.plan.toParameters(req.getMetadata());
+            step.plan.putValue(
+                    params, config.getNodeIdProperty(), req.getReference());
+            // Content is only read when referenced, and only once
+            if (config.getContentMode() == ContentMode.EXTERNAL) {
+                if (blob == null && isBlobReferenced(step.plan)) {
+                    blob = blobs.store(req.getContent());
+                }
+                if (blob != null) {
+                    putBlobValues(step.plan, params, blob);
+                }
+            } else if (step.plan.isReferenced(
+                    config.getNodeContentProperty())
+                    && config.getContentMode() != ContentMode.CHUNK) {
+                int maxLength =
+                        config.getContentMode() == ContentMode.TRUNCATE
+                                ? config.getMaxContentLength() : -1;
+                if (compression != null) {
+                    if (compressed == null) {
+                        compressed = ContentReader.readCompressed(
+                                req.getContent(), maxLength, compression);
+                    }
+                    // Bytes are sent as is, regardless of field types
+                    params.put(config.getNodeContentProperty(), compressed);
+                } else {
+                    if (content == null) {
+                        content = ContentReader.readString(
+                                req.getContent(), maxLength);
+                    }
+                    step.plan.putValue(params,
+                            config.getNodeContentProperty(), content);
+                }
+            }
+            if (compression != null && step.plan.isReferenced(
+                    Neo4jCommitterConfig.CONTENT_CODEC_PARAM)) {
+                params.put(Neo4jCommitterConfig.CONTENT_CODEC_PARAM,
+                        compression.codec());
+            }
+            queries.add(new Query(step.index, step.cypher, params));
+        }
+        return queries;
+    }
+
+    private boolean isBlobReferenced(ParameterPlan plan) {
+        return plan.isReferenced(config.getNodeContentProperty())
+                || plan.isReferenced(Neo4jCommitterConfig.CONTENT_PATH_PARAM)
+                || plan.isReferenced(
+                        Neo4jCommitterConfig.CONTENT_LENGTH_PARAM);
+    }
+    // The content hash replaces the content itself
+    private void putBlobValues(
+            ParameterPlan plan, Map<String, Object> params, Blob blob) {
+        if (plan.isReferenced(config.getNodeContentProperty())) {
+            params.put(config.getNodeContentProperty(), blob.getHash());
+        }
+        if (plan.isReferenced(Neo4jCommitterConfig.CONTENT_PATH_PARAM)) {
+            params.put(Neo4jCommitterConfig.CONTENT_PATH_PARAM,
+                    blob.getPath());
+        }
+        if (plan.isReferenced(Neo4jCommitterConfig.CONTENT_LENGTH_PARAM)) {
+            params.put(Neo4jCommitterConfig.CONTENT_LENGTH_PARAM,
+                    blob.getLength());
+        }
+    }
+
+    // Records the content sent with the first query having it. With
+    // external content, only a reference to it is sent, not counted.
+    private void contentSent(CypherStatement stmt) {
+        if (config.getContentMode() == ContentMode.EXTERNAL) {
+            return;
+        }
+        for (Query query : stmt.getQueries()) {
+            Object content = query.getParameters().get(
+                    config.getNodeContentProperty());
+            if (content != null) {
+                contentSent(content);
+                return;
+            }
+        }
+    }
+    // Content is a list when there is no multi-value joiner
+    private void contentSent(Object content) {
+        if (content instanceof byte[]) {
+            metrics.contentSent((byte[]) content);
+        } else if (content instanceof Collection) {
+            ((Collection<?>) content).forEach(this::contentSent);
+        } else if (content != null) {
+            metrics.contentSent(content.toString());
+        }
+    }
+
+    private List<Query> toDeleteQueries(DeleteRequest req) {
+        List<Query> queries = new ArrayList<>(deleteSteps.size());
+        for (Step step : deleteSteps) {
+            if (!step.matches(req.getMetadata())) {
+                continue;
+            }
+            Map<String, Object> params =
+                    step.plan.toParameters(req.getMetadata());
+            step.plan.putValue(
+                    params, config.getNodeIdProperty(), req.getReference());
+            queries.add(new Query(step.index, step.cypher, params));
+        }
+        return queries;
+    }
+
+    // Statements with chunked content are always sent, as their content
+    // is not part of the checksum. A statement sent evicts the stored
+    // checksum until committed, in case a later one for the same
+    // reference is compared with it before then.
+    private boolean isUnchanged(CypherStatement stmt) {
+        if (checksums == null) {
+            return false;
+        }
+        if (stmt.getChunkedContent() == null) {
+            byte[] checksum = ChecksumStore.checksum(
+                    stmt.getQueries(), stmt.getLinks());
+            if (checksums.isUnchanged(stmt.getReference(), checksum)) {
+                return true;
+            }
+            stmt.setChecksum(checksum);
+        }
+        checksums.evict(stmt.getReference());
+        return false;
+    }
+
+    private boolean isChunkedContent() {
+        return config.getContentMode() == ContentMode.CHUNK
+                && StringUtils.isNotBlank(config.getNodeContentProperty());
+    }
+
+    /**
+     * Writes a list of statements as a single unit (e.g., transaction).
+     */
+    @FunctionalInterface
+    interface StatementWriter {
+        void write(List<CypherStatement> stmts);
+    }
+
+    // Counts requests of a batch as they are read.
+    private static class CountingIterator
+            implements Iterator<ICommitterRequest> {
+        private final Iterator<ICommitterRequest> it;
+        private int count;
+        CountingIterator(Iterator<ICommitterRequest> it) {
+            this.it = it;
+        }
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+        @Override
+        public ICommitterRequest next() {
+            ICommitterRequest req = it.next();
+            count++;
+            return req;
+        }
+    }
+
+    // A Cypher statement executed for requests of a given type, with
+    // the plan for its parameters and an optional condition.
+    private class Step {
+        private final int index;
+        private final String name;
+        private final String cypher;
+        private final ParameterPlan plan;
+        private final PipelineStatement statement;
+        Step(int index, String name, String cypher,
+                PipelineStatement statement) {
+            this.index = index;
+            this.name = name;
+            this.cypher = cypher;
+            this.plan = new ParameterPlan(cypher, config);
+            this.statement = statement;
+        }
+        boolean matches(Properties meta) {
+            return statement == null || statement.matches(meta);
+        }
+    }
+
+    // UNWIND rows sharing the same Cypher statement.
+    private static class RowGroup {
+        private final String cypher;
+        private final List<Map<String, Object>> rows = new ArrayList<>();
+        RowGroup(String cypher) {
+            this.cypher = cypher;
+        }
     }
 }
\ No newline at end of file
@@ -14,9 +14,18 @@
  */
 package com.norconex.committer.neo4j;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Objects;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.EqualsExclude;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -24,11 +33,18 @@ import org.apache.commons.lang3.builder.HashCodeExclude;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringExclude;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.value.NullValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.norconex.committer.core3.CommitterException;
 import com.norconex.committer.core3.ICommitterRequest;
 import com.norconex.committer.core3.batch.AbstractBatchCommitter;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentMode;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.DeleteStrategy;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.Engine;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.WriteMode;
 import com.norconex.commons.lang.xml.XML;
 
 /**
@@ -44,6 +60,80 @@ import com.norconex.commons.lang.xml.XML;
  *
  * {@nx.include com.norconex.commons.lang.security.Credentials#doc}
  *
+ * <h2>Performance and reliability</h2>
+ * <p>
+ * Options beyond the queries themselves tune how requests reach Neo4j:
+ * write modes and transaction sizing, parallel or asynchronous commits,
+ * a local spool, content handling, retries and bisection of failures,
+ * skipping or coalescing redundant requests, link graph and bulk
+ * export. Each is described once, in the XML usage below, and in more
+ * detail in {@link Neo4jCommitterConfig} (see also the
+ * "Neo4jCommitter.xsd" schema). A few behaviors are worth knowing:
+ * </p>
+ * <ul>
+ *   <li>
+ *     Document fields are sent as query parameters of the same name,
+ *     only to queries referencing them. Content is only read when
+ *     referenced.
+ *   </li>
+ *   <li>
+ *     The {@code UNWIND} write mode wraps queries in
+ *     {@code UNWIND $rows AS row}, reading parameters from {@code row}
+ *     (e.g., {@code $title} becomes {@code row.title}). Queries must not
+ *     aggregate across documents, and queries with {@code WITH} clauses
+ *     (other than {@code WITH *}), {@code CALL {}} subqueries or
+ *     {@code UNION} are rejected on startup.
+ *   </li>
+ *   <li>
+ *     Requests for a given document are always sent in order, whether
+ *     committed in parallel, asynchronously or spooled.
+ *   </li>
+ *   <li>
+ *     Spooled statements are kept in "neo4j-spool.mv" under the
+ *     committer working directory and written at least once, so prefer
+ *     idempotent queries. Statements Neo4j keeps rejecting are logged
+ *     and moved to a quarantine in the same file.
+ *   </li>
+ *   <li>
+ *     Skipping unchanged upserts keeps checksums in "neo4j-checksums.mv"
+ *     under the committer working directory. Nodes changed in Neo4j by
+ *     other means are not detected.
+ *   </li>
+ *   <li>
+ *     Coalesced requests are not sent at all, so only coalesce when your
+ *     upsert query describes entire documents.
+ *   </li>
+ *   <li>
+ *     Chunk queries receive the zero-based chunk position as
+ *     {@code $chunkIndex}. Compressed content comes with its codec
+ *     name as {@code $contentCodec}. With external content, the content
+ *     parameter holds its SHA-256 hash, {@code $contentPath} its path
+ *     under the content store and {@code $contentLength} its size.
+ *     Stored content files are never deleted by the committer.
+ *   </li>
+ *   <li>
+ *     Link graph and exported nodes have the labels and ID property
+ *     resolved for node ID constraints, so your upsert query should
+ *     create document nodes the same way, while your delete query
+ *     removes links of deleted documents. When exporting, deletes are
+ *     ignored and the matching "neo4j-admin import" command is logged
+ *     on close.
+ *   </li>
+ *   <li>
+ *     Relationships deleted before their node stay deleted even if the
+ *     delete query then fails.
+ *   </li>
+ *   <li>
+ *     With a "neo4j" URI scheme, writes are routed to the cluster
+ *     leader. {@link #getLastBookmark()} returns the bookmark of the
+ *     latest committed sessions, for your own reads.
+ *   </li>
+ *   <li>
+ *     Metrics are logged on close and, with JMX enabled, exposed as
+ *     {@code com.norconex.committer.neo4j:type=Neo4jCommitter,name="<uri>"}.
+ *   </li>
+ * </ul>
+ *
  * {@nx.include com.norconex.committer.core3.AbstractCommitter#restrictTo}
  *
  * {@nx.include com.norconex.committer.core3.AbstractCommitter#fieldMappings}
@@ -71,12 +161,58 @@ import com.norconex.commons.lang.xml.XML;
  *   </deleteCypher>
  *
  *   <!-- Optional settings --->
+ *   <statements>
+ *     <!-- Repeat as needed, in execution order. -->
+ *     <statement name="(statement name)" requestType="[UPSERT|DELETE]">
+ *       <!-- Optional. Without it, the statement always executes. -->
+ *       <condition
+ *           field="(field documents must have)"
+ *           regex="(optional regex one field value must match)"/>
+ *       <cypher>(Cypher statement.)</cypher>
+ *     </statement>
+ *   </statements>
  *   <database>
  *     (A database name when using one other than the default one.)
  *   </database>
  *   <credentials>
  *     {@nx.include com.norconex.commons.lang.security.Credentials@nx.xml.usage}
  *   </credentials>
+ *   <driverSettings>
+ *     <maxConnectionPoolSize>
+ *       (Maximum number of pooled connections.)
+ *     </maxConnectionPoolSize>
+ *     <connectionAcquisitionTimeout>
+ *       (Maximum time to wait for a pooled connection.)
+ *     </connectionAcquisitionTimeout>
+ *     <connectionTimeout>
+ *       (Maximum time to wait for a new connection to be established.)
+ *     </connectionTimeout>
+ *     <maxConnectionLifetime>
+ *       (Maximum age of pooled connections before they are closed.)
+ *     </maxConnectionLifetime>
+ *     <connectionLivenessCheckTimeout>
+ *       (Idle time after which pooled connections are tested before
+ *       being reused.)
+ *     </connectionLivenessCheckTimeout>
+ *     <fetchSize>(Number of records fetched per batch of results.)</fetchSize>
+ *     <encrypted>
+ *       [false|true]
+ *       (Whether connections are encrypted. Do not set when your URI
+ *       scheme specifies it, e.g., "neo4j+s".)
+ *     </encrypted>
+ *     <trustStrategy>
+ *       [SYSTEM|ALL]
+ *       (Which certificates are trusted for encrypted connections.)
+ *     </trustStrategy>
+ *     <routingTablePurgeDelay>
+ *       (How long unused cluster routing tables are kept.)
+ *     </routingTablePurgeDelay>
+ *     <maxTransactionRetryTime>
+ *       (Maximum time the driver retries transactions on transient
+ *       failures, such as a cluster leader change. Default is not to
+ *       retry when "maxTransientRetries" is greater than zero.)
+ *     </maxTransactionRetryTime>
+ *   </driverSettings>
  *   <multiValuesJoiner>
  *     (One or more characters to join multi-value fields. Default is "|".)
  *   </multiValuesJoiner>
@@ -96,6 +232,180 @@ import com.norconex.commons.lang.xml.XML;
  *     creating the query. They will be set to {@link NullValue}) to avoid
  *     client exception for missing parameters.)
  *   <optionalParameters>
+ *   <fieldTypes>
+ *     <!-- Repeat as needed. Fields are otherwise sent as strings. -->
+ *     <field name="(field name)"
+ *         type="[STRING|LONG|DOUBLE|BOOLEAN|DATETIME|LIST]"/>
+ *   </fieldTypes>
+ *   <writeMode>
+ *     [DOCUMENT|SESSION|UNWIND]
+ *     (How requests are sent to Neo4j. Default is "DOCUMENT".)
+ *   </writeMode>
+ *   <transactionSize>
+ *     (With "SESSION" write mode, maximum number of statements per
+ *     explicit transaction. Default sends each in its own transaction.)
+ *   </transactionSize>
+ *   <parallelism>
+ *     (Number of batch partitions committed concurrently. Default is 1.)
+ *   </parallelism>
+ *   <engine>
+ *     [BLOCKING|ASYNC]
+ *     (Neo4j driver API used to send requests. Default is "BLOCKING".)
+ *   </engine>
+ *   <maxInFlightTransactions>
+ *     (With "ASYNC" engine, maximum number of transactions in flight.
+ *     Default is 16.)
+ *   </maxInFlightTransactions>
+ *   <contentMode>
+ *     [FULL|TRUNCATE|CHUNK|EXTERNAL]
+ *     (How document content is sent. Default is "FULL".)
+ *   </contentMode>
+ *   <maxContentLength>
+ *     (With "TRUNCATE" content mode, maximum number of characters sent.
+ *     Default is 100000.)
+ *   </maxContentLength>
+ *   <contentChunkSize>
+ *     (With "CHUNK" content mode, number of characters per chunk.
+ *     Default is 10000.)
+ *   </contentChunkSize>
+ *   <chunkCypher>
+ *     (With "CHUNK" content mode, Cypher query executed for each chunk.)
+ *   </chunkCypher>
+ *   <createNodeIdConstraints>
+ *     [false|true]
+ *     (Whether to create uniqueness constraints on the node ID property
+ *     on startup, if missing. Default is "false".)
+ *   </createNodeIdConstraints>
+ *   <nodeIdLabels>
+ *     (Comma-separated list of labels of nodes identified by the node ID
+ *     property. Default detects them from the "upsertCypher" query.)
+ *   </nodeIdLabels>
+ *   <constraintsTimeout>
+ *     (Maximum time to wait for created constraints to be online.
+ *     Default is 5 minutes.)
+ *   </constraintsTimeout>
+ *   <maxTransientRetries>
+ *     (Maximum number of retries of writes failing for transient reasons.
+ *     Default is 3.)
+ *   </maxTransientRetries>
+ *   <transientRetryDelay>
+ *     (Delay before the first retry, doubling with each retry.
+ *     Default is 500 milliseconds.)
+ *   </transientRetryDelay>
+ *   <maxTransientRetryDelay>
+ *     (Maximum delay between retries. Default is 30 seconds.)
+ *   </maxTransientRetryDelay>
+ *   <bisectFailures>
+ *     [false|true]
+ *     (Whether to isolate and skip documents failing for non-transient
+ *     reasons instead of failing the batch. Default is "false".)
+ *   </bisectFailures>
+ *   <jmxEnabled>
+ *     [false|true]
+ *     (Whether to expose committer metrics through JMX.
+ *     Default is "false".)
+ *   </jmxEnabled>
+ *   <skipUnchanged>
+ *     [false|true]
+ *     (Whether to skip upserts unchanged since last committed.
+ *     Default is "false".)
+ *   </skipUnchanged>
+ *   <coalesceRequests>
+ *     [false|true]
+ *     (Whether to only send the last request for each reference
+ *     of a batch. Default is "false".)
+ *   </coalesceRequests>
+ *   <coalesceWindowSize>
+ *     (Maximum number of consecutive requests coalesced together.
+ *     Default is 1000.)
+ *   </coalesceWindowSize>
+ *   <phasedWrites>
+ *     [false|true]
+ *     (Whether to coalesce requests and send deletes before upserts.
+ *     Default is "false".)
+ *   </phasedWrites>
+ *   <linkField>
+ *     (Field holding the targets of document outgoing links, enabling
+ *     link graph mode.)
+ *   </linkField>
+ *   <linkLabel>
+ *     (Label of linked nodes. Default is "Page".)
+ *   </linkLabel>
+ *   <linkRelationship>
+ *     (Type of link relationships. Default is "LINKS_TO".)
+ *   </linkRelationship>
+ *   <linkBatchSize>
+ *     (Maximum number of rows sent with each link graph statement.
+ *     Default is 10000.)
+ *   </linkBatchSize>
+ *   <validateQueries>
+ *     [false|true]
+ *     (Whether to have Neo4j plan all queries on startup, failing on
+ *     invalid ones. Default is "false".)
+ *   </validateQueries>
+ *   <exportDir>
+ *     (Directory where to export CSV files for "neo4j-admin import"
+ *     instead of sending requests to Neo4j.)
+ *   </exportDir>
+ *   <exportMaxFileSize>
+ *     (Maximum size of exported CSV files. Default is 256MB.)
+ *   </exportMaxFileSize>
+ *   <chainBookmarks>
+ *     [false|true]
+ *     (Whether sessions start with the bookmark of the latest committed
+ *     sessions. Default is "false".)
+ *   </chainBookmarks>
+ *   <transactionMaxBytes>
+ *     (With "UNWIND", or "SESSION" with a "transactionSize", maximum
+ *     estimated size of the parameters sent in a transaction.
+ *     Default has no maximum.)
+ *   </transactionMaxBytes>
+ *   <transactionTargetLatency>
+ *     (With "UNWIND", or "SESSION" with a "transactionSize", transaction
+ *     duration to aim for when adjusting the number of statements per
+ *     transaction. Default does not adjust it.)
+ *   </transactionTargetLatency>
+ *   <contentCompression>
+ *     [GZIP|DEFLATE]
+ *     (Sends content compressed, as a byte array, with its codec name
+ *     as "contentCodec" parameter. Default sends it as a string.)
+ *   </contentCompression>
+ *   <contentStoreDir>
+ *     (With "EXTERNAL" content mode, directory where content is stored.
+ *     Default is a "content" directory under the committer working
+ *     directory.)
+ *   </contentStoreDir>
+ *   <deleteStrategy>
+ *     [SINGLE|CHUNKED|IN_TRANSACTIONS]
+ *     (Whether relationships of deleted nodes are first deleted in
+ *     bounded transactions. "IN_TRANSACTIONS" requires Neo4j 4.4+.
+ *     Default is "SINGLE".)
+ *   </deleteStrategy>
+ *   <deleteChunkSize>
+ *     (Maximum number of relationships deleted per transaction when
+ *     deleting relationships first. Default is 10000.)
+ *   </deleteChunkSize>
+ *   <spoolWrites>
+ *     [false|true]
+ *     (Whether statements are spooled locally and written to Neo4j in
+ *     the background. Default is "false".)
+ *   </spoolWrites>
+ *   <spoolBatchSize>
+ *     (Maximum number of spooled statements written together.
+ *     Default is 1000.)
+ *   </spoolBatchSize>
+ *   <spoolMaxDepth>
+ *     (Maximum number of spooled statements before committing waits.
+ *     Default has no maximum.)
+ *   </spoolMaxDepth>
+ *   <spoolRetryDelay>
+ *     (Delay before writing spooled statements again after failing to.
+ *     Default is 10 seconds.)
+ *   </spoolRetryDelay>
+ *   <spoolMaxWait>
+ *     (With "spoolMaxDepth", maximum time to wait for room in a full
+ *     spool before committing fails. Default is 5 minutes.)
+ *   </spoolMaxWait>
  *
  *   {@nx.include com.norconex.committer.core3.batch.AbstractBatchCommitter#options}
  *
@@ -137,12 +447,31 @@ import com.norconex.commons.lang.xml.XML;
 @SuppressWarnings("javadoc")
 public class Neo4jCommitter extends AbstractBatchCommitter {
 
+    private static final Logger LOG =
+            LoggerFactory.getLogger(Neo4jCommitter.class);
+
     private final Neo4jCommitterConfig config;
 
     @ToStringExclude
     @HashCodeExclude
     @EqualsExclude
     private Neo4jClient client;
+    @ToStringExclude
+    @HashCodeExclude
+    @EqualsExclude
+    private CsvExporter exporter;
+    @ToStringExclude
+    @HashCodeExclude
+    @EqualsExclude
+    private Spool spool;
+    @ToStringExclude
+    @HashCodeExclude
+    @EqualsExclude
+    private SpoolFlusher flusher;
+    @ToStringExclude
+    @HashCodeExclude
+    @EqualsExclude
+    private ObjectName mbeanName;
 
     /** Creates a new Neo4j committer with default configuration. */
     public Neo4jCommitter() {
@@ -159,22 +488,214 @@ public class Neo4jCommitter extends AbstractBatchCommitter {
 
     @Override
     protected void initBatchCommitter() throws CommitterException {
-        client = new Neo4jClient(config);
+        if (config.getContentMode() == ContentMode.CHUNK
+                && StringUtils.isBlank(config.getChunkCypher())) {
+            throw new CommitterException(
+                    "\"chunkCypher\" must be set when using the "
+                  + "\"CHUNK\" content mode.");
+        }
+        if ((config.getContentMode() == ContentMode.CHUNK
+                || config.getContentMode() == ContentMode.EXTERNAL)
+                && config.getContentCompression() != null) {
+            throw new CommitterException(
+                    "\"contentCompression\" cannot be used with the \""
+                  + config.getContentMode() + "\" content mode.");
+        }
+        if (config.getContentCompression() != null
+                && config.getExportDir() != null) {
+            throw new CommitterException("\"contentCompression\" "
+                  + "cannot be used when exporting.");
+        }
+        if (config.getContentMode() == ContentMode.EXTERNAL
+                && config.getExportDir() != null) {
+            throw new CommitterException("The \"EXTERNAL\" content mode "
+                  + "cannot be used when exporting.");
+        }
+        if (config.isSpoolWrites()
+                && config.getContentMode() == ContentMode.CHUNK) {
+            throw new CommitterException("\"spoolWrites\" cannot be used "
+                    + "with the \"CHUNK\" content mode.");
+        }
+        if (config.getExportDir() != null) {
+            LOG.info("Exporting to CSV files, not connecting to Neo4j.");
+            exporter = new CsvExporter(config);
+            if (config.isJmxEnabled()) {
+                registerMBean();
+            }
+            return;
+        }
+        if (config.getWriteMode() == WriteMode.UNWIND) {
+            checkUnwindCypher("upsertCypher", config.getUpsertCypher());
+            checkUnwindCypher("deleteCypher", config.getDeleteCypher());
+            for (PipelineStatement ps : config.getStatements()) {
+                checkUnwindCypher(ps.getName(), ps.getCypher());
+            }
+        }
+        if (config.getEngine() == Engine.ASYNC) {
+            client = new Neo4jAsyncClient(config);
+        } else {
+            client = new Neo4jClient(config);
+        }
+        // Not to leak the driver, stores or flusher if any setup fails
+        try {
+            if (config.isSkipUnchanged()) {
+                client.setChecksumStore(openChecksumStore());
+            }
+            if (config.getContentMode() == ContentMode.EXTERNAL) {
+                client.setBlobStore(openBlobStore());
+            }
+            if (config.getDeleteStrategy() != DeleteStrategy.SINGLE) {
+                client.setRelationshipDeleter(
+                        new RelationshipDeleter(config));
+            }
+            if (config.isCreateNodeIdConstraints()) {
+                client.createNodeIdConstraints();
+            }
+            // After constraints, so plans make use of them
+            if (config.isValidateQueries()) {
+                client.validateQueries();
+            }
+            if (config.isSpoolWrites()) {
+                spool = openSpool();
+                client.getMetrics().setSpool(spool);
+                flusher = new SpoolFlusher(client, spool, config);
+            }
+            if (config.isJmxEnabled()) {
+                registerMBean();
+            }
+        } catch (CommitterException | RuntimeException e) {
+            try {
+                closeClient();
+            } catch (RuntimeException closeError) {
+                e.addSuppressed(closeError);
+            }
+            client = null;
+            throw e;
+        }
     }
 
     @Override
     protected void commitBatch(Iterator<ICommitterRequest> it)
             throws CommitterException {
-        client.post(it);
+        if (exporter != null) {
+            exporter.post(it);
+        } else if (spool != null) {
+            flusher.awaitRoom();
+            client.spool(it, spool);
+        } else {
+            client.post(it);
+        }
     }
 
     @Override
     protected void closeBatchCommitter() throws CommitterException {
+        if (mbeanName != null) {
+            unregisterMBean();
+        }
         if (client != null) {
+            closeClient();
+            LOG.info("Neo4j committer metrics: {}", client.getMetrics());
+        }
+        if (exporter != null) {
+            LOG.info("Neo4j committer metrics: {}", exporter.getMetrics());
+            exporter.close();
+        }
+    }
+
+    // Closes the flusher before the client, to write what remains
+    // spooled. The spool is closed with the flusher, or on its own if
+    // the flusher could not be created. The client is kept for its
+    // metrics.
+    private void closeClient() {
+        try {
+            if (flusher != null) {
+                flusher.close();
+            } else if (spool != null) {
+                spool.close();
+            }
+        } finally {
+            flusher = null;
+            spool = null;
             client.close();
         }
     }
 
+    private static void checkUnwindCypher(String name, String cypher)
+            throws CommitterException {
+        String clause = CypherUtil.findUnwindUnsafeClause(cypher);
+        if (clause != null) {
+            throw new CommitterException("\"" + name + "\" Cypher cannot "
+                    + "be used with the \"UNWIND\" write mode as it "
+                    + "contains a " + clause + " clause not carrying the "
+                    + "\"" + CypherUtil.UNWIND_ROW_VARIABLE + "\" "
+                    + "variable. Use another write mode.");
+        }
+    }
+
+    private ChecksumStore openChecksumStore() throws CommitterException {
+        Path dir = getCommitterContext().getWorkDir();
+        try {
+            Files.createDirectories(dir);
+            return new ChecksumStore(dir.resolve(ChecksumStore.FILE_NAME));
+        } catch (IOException | IllegalStateException e) {
+            throw new CommitterException(
+                    "Cannot open checksum store in: " + dir, e);
+        }
+    }
+
+    private Spool openSpool() throws CommitterException {
+        Path dir = getCommitterContext().getWorkDir();
+        try {
+            Files.createDirectories(dir);
+            return new Spool(dir.resolve(Spool.FILE_NAME));
+        } catch (IOException | IllegalStateException e) {
+            throw new CommitterException("Cannot open spool in: " + dir, e);
+        }
+    }
+
+    private BlobStore openBlobStore() throws CommitterException {
+        Path dir = config.getContentStoreDir();
+        if (dir == null) {
+            dir = getCommitterContext().getWorkDir().resolve(
+                    Neo4jCommitterConfig.DEFAULT_CONTENT_STORE_DIR_NAME);
+        }
+        try {
+            return new BlobStore(dir);
+        } catch (IOException e) {
+            throw new CommitterException(
+                    "Cannot open blob store in: " + dir, e);
+        }
+    }
+
+    // Registers metrics under a name unique to this committer instance
+    private void registerMBean() throws CommitterException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            String baseName = "com.norconex.committer.neo4j:"
+                    + "type=Neo4jCommitter,name=" + ObjectName.quote(
+                            StringUtils.defaultString(config.getUri()));
+            ObjectName name = new ObjectName(baseName);
+            for (int i = 2; server.isRegistered(name); i++) {
+                name = new ObjectName(baseName + ",instance=" + i);
+            }
+            server.registerMBean(getMetrics(), name);
+            mbeanName = name;
+            LOG.info("Neo4j committer metrics registered as: {}", name);
+        } catch (JMException e) {
+            throw new CommitterException(
+                    "Could not register Neo4j committer metrics.", e);
+        }
+    }
+    private void unregisterMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .unregisterMBean(mbeanName);
+        } catch (JMException e) {
+            LOG.warn("Could not unregister Neo4j committer metrics.", e);
+        }
+        mbeanName = null;
+    }
+
     /**
      * Gets this committer's configuration.
      * @return committer configuration
@@ -183,6 +704,27 @@ public class Neo4jCommitter extends AbstractBatchCommitter {
         return config;
     }
 
+    /**
+     * Gets this committer's metrics.
+     * @return committer metrics or {@code null} if not initialized
+     */
+    public Neo4jCommitterMetrics getMetrics() {
+        if (exporter != null) {
+            return exporter.getMetrics();
+        }
+        return client != null ? client.getMetrics() : null;
+    }
+
+    /**
+     * Gets the bookmark of the latest sessions committed to Neo4j.
+     * Start a session with it to read what was committed so far, from
+     * any cluster member.
+     * @return bookmark or {@code null} if not initialized or exporting
+     */
+    public Bookmark getLastBookmark() {
+        return client != null ? client.getLastBookmark() : null;
+    }
+
     @Override
     protected void loadBatchCommitterFromXML(XML xml) {
         config.loadFromXML(xml);
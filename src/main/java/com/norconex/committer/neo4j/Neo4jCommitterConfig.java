@@ -15,11 +15,17 @@
 package com.norconex.committer.neo4j;
 
 import java.io.Serializable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -45,6 +51,179 @@ public class Neo4jCommitterConfig implements Serializable {
     public static final String DEFAULT_NEO4J_ID_PROPERTY = "id";
     /** Default property name used to store the document content. */
     public static final String DEFAULT_NEO4J_CONTENT_PROPERTY = "content";
+    /** Default maximum number of asynchronous transactions in flight. */
+    public static final int DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS = 16;
+    /** Default maximum number of content characters when truncating. */
+    public static final int DEFAULT_MAX_CONTENT_LENGTH = 100_000;
+    /** Default number of content characters per chunk. */
+    public static final int DEFAULT_CONTENT_CHUNK_SIZE = 10_000;
+    /** Name of the chunk cypher parameter holding the chunk position. */
+    public static final String CHUNK_INDEX_PARAM = "chunkIndex";
+    /** Name of the parameter holding the codec of compressed content. */
+    public static final String CONTENT_CODEC_PARAM = "contentCodec";
+    /** Name of the parameter holding the path of externalized content. */
+    public static final String CONTENT_PATH_PARAM = "contentPath";
+    /** Name of the parameter holding the length of externalized content. */
+    public static final String CONTENT_LENGTH_PARAM = "contentLength";
+    /** Name of the directory holding externalized content by default. */
+    public static final String DEFAULT_CONTENT_STORE_DIR_NAME = "content";
+    /** Default maximum time to wait for constraints to be online. */
+    public static final long DEFAULT_CONSTRAINTS_TIMEOUT =
+            TimeUnit.MINUTES.toMillis(5);
+    /** Default maximum number of retries on transient failures. */
+    public static final int DEFAULT_MAX_TRANSIENT_RETRIES = 3;
+    /** Default initial delay before retrying on transient failures. */
+    public static final long DEFAULT_TRANSIENT_RETRY_DELAY = 500;
+    /** Default maximum delay before retrying on transient failures. */
+    public static final long DEFAULT_MAX_TRANSIENT_RETRY_DELAY =
+            TimeUnit.SECONDS.toMillis(30);
+    /** Default maximum number of requests coalesced together. */
+    public static final int DEFAULT_COALESCE_WINDOW_SIZE = 1000;
+    /** Default label of nodes linked in link graph mode. */
+    public static final String DEFAULT_LINK_LABEL = "Page";
+    /** Default type of link relationships in link graph mode. */
+    public static final String DEFAULT_LINK_RELATIONSHIP = "LINKS_TO";
+    /** Default maximum number of rows per link graph statement. */
+    public static final int DEFAULT_LINK_BATCH_SIZE = 10_000;
+    /** Default maximum number of relationships deleted per transaction. */
+    public static final int DEFAULT_DELETE_CHUNK_SIZE = 10_000;
+    /** Default maximum number of spooled statements written together. */
+    public static final int DEFAULT_SPOOL_BATCH_SIZE = 1000;
+    /** Default delay before writing spooled statements again. */
+    public static final long DEFAULT_SPOOL_RETRY_DELAY =
+            TimeUnit.SECONDS.toMillis(10);
+    /** Default maximum time to wait for room in a full spool. */
+    public static final long DEFAULT_SPOOL_MAX_WAIT =
+            TimeUnit.MINUTES.toMillis(5);
+    /** Default maximum size of exported CSV files, in bytes. */
+    public static final long DEFAULT_EXPORT_MAX_FILE_SIZE =
+            256L * 1024 * 1024;
+
+    /**
+     * Native Neo4j type a document field is converted to when sent
+     * as a query parameter.
+     */
+    public enum FieldType {
+        /**
+         * A single string. Multiple values are joined with the
+         * multi-values joiner, or only the first value is kept
+         * if no joiner is set.
+         */
+        STRING,
+        /** A 64-bit integer (or a list of them). */
+        LONG,
+        /** A 64-bit floating point number (or a list of them). */
+        DOUBLE,
+        /** A boolean (or a list of them). */
+        BOOLEAN,
+        /**
+         * A temporal value (or a list of them). Supported formats are
+         * ISO 8601 date-time with offset/zone (sent as DateTime),
+         * without (sent as LocalDateTime), ISO 8601 date (sent as Date),
+         * RFC 1123 date-time, or epoch milliseconds (sent as UTC DateTime).
+         */
+        DATETIME,
+        /**
+         * A list of strings, even when the field has a single value or a
+         * multi-values joiner is set.
+         */
+        LIST
+    }
+
+    /**
+     * How document content is sent to Neo4j.
+     */
+    public enum ContentMode {
+        /** The entire content is sent as a single parameter. */
+        FULL,
+        /**
+         * Content is sent as a single parameter, truncated to a maximum
+         * number of characters. Content beyond it is never read.
+         */
+        TRUNCATE,
+        /**
+         * Content is read and sent in chunks of a fixed number of
+         * characters, each with its own chunk Cypher statement.
+         */
+        CHUNK,
+        /**
+         * Content is written to a local content-addressed store, and
+         * only its hash, path, and length are sent as parameters.
+         */
+        EXTERNAL
+    }
+
+    /**
+     * How document content is compressed before being sent.
+     */
+    public enum ContentCompression {
+        /** GZIP format ({@link java.util.zip.GZIPOutputStream}). */
+        GZIP,
+        /** ZLIB format ({@link java.util.zip.DeflaterOutputStream}). */
+        DEFLATE;
+        /**
+         * Gets the codec name sent as the
+         * {@value Neo4jCommitterConfig#CONTENT_CODEC_PARAM} parameter
+         * (e.g., "gzip").
+         * @return codec name
+         */
+        public String codec() {
+            return name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    /**
+     * How nodes are deleted.
+     */
+    public enum DeleteStrategy {
+        /** Delete statements are sent as is, in a single transaction. */
+        SINGLE,
+        /**
+         * Relationships of deleted nodes are first deleted in
+         * transactions of a maximum size, one after the other.
+         */
+        CHUNKED,
+        /**
+         * Relationships of deleted nodes are first deleted with a single
+         * {@code CALL {} IN TRANSACTIONS} statement (Neo4j 4.4+).
+         */
+        IN_TRANSACTIONS
+    }
+
+    /**
+     * Which Neo4j driver API is used to send requests.
+     */
+    public enum Engine {
+        /** Driver blocking API, honoring the configured write mode. */
+        BLOCKING,
+        /**
+         * Driver asynchronous API, with each request sent in its own
+         * transaction and many transactions in flight.
+         */
+        ASYNC
+    }
+
+    /**
+     * How commit requests are written to Neo4j.
+     */
+    public enum WriteMode {
+        /**
+         * Each document is written in its own session and transaction.
+         */
+        DOCUMENT,
+        /**
+         * All requests of a batch are written using the same session,
+         * each in its own transaction unless a transaction size
+         * is specified.
+         */
+        SESSION,
+        /**
+         * Consecutive requests of the same type within a batch are sent
+         * together as a list of rows to the configured Cypher wrapped in
+         * an {@code UNWIND} clause, in a single transaction per batch.
+         */
+        UNWIND
+    }
 
     /** Neo4j connection URI. */
     private String uri;
@@ -52,6 +231,9 @@ public class Neo4jCommitterConfig implements Serializable {
     private String database;
     /** Authentication credentials. */
     private final Credentials credentials = new Credentials();
+    /** Neo4j driver connection settings. */
+    private final Neo4jDriverSettings driverSettings =
+            new Neo4jDriverSettings();
     /** Separator used to join multi-valued fields into a single string. */
     private String multiValuesJoiner;
     /** Neo4j property name where the document ID is stored. */
@@ -62,8 +244,98 @@ public class Neo4jCommitterConfig implements Serializable {
     private String upsertCypher;
     /** Cypher statement used for delete operations. */
     private String deleteCypher;
+    /** Additional statements executed for each request, in order. */
+    private final List<PipelineStatement> statements = new ArrayList<>();
     /** Query parameter names that may be absent without causing an error. */
     private final Set<String> optionalParameters = new HashSet<>();
+    /** Native types fields are converted to, keyed by field name. */
+    private final Map<String, FieldType> fieldTypes = new LinkedHashMap<>();
+    /** How commit requests are written to Neo4j. */
+    private WriteMode writeMode = WriteMode.DOCUMENT;
+    /** Maximum statements per explicit transaction in SESSION mode. */
+    private int transactionSize;
+    /** Maximum number of request partitions committed concurrently. */
+    private int parallelism = 1;
+    /** Which Neo4j driver API is used to send requests. */
+    private Engine engine = Engine.BLOCKING;
+    /** Maximum number of asynchronous transactions in flight. */
+    private int maxInFlightTransactions = DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS;
+    /** How document content is sent to Neo4j. */
+    private ContentMode contentMode = ContentMode.FULL;
+    /** Maximum number of content characters when truncating. */
+    private int maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+    /** Number of content characters per chunk. */
+    private int contentChunkSize = DEFAULT_CONTENT_CHUNK_SIZE;
+    /** Cypher statement used for each content chunk. */
+    private String chunkCypher;
+    /** Whether to create node ID uniqueness constraints on startup. */
+    private boolean createNodeIdConstraints;
+    /** Labels of nodes identified by the node ID property. */
+    private final List<String> nodeIdLabels = new ArrayList<>();
+    /** Maximum time in milliseconds to wait for constraints. */
+    private long constraintsTimeout = DEFAULT_CONSTRAINTS_TIMEOUT;
+    /** Maximum number of retries on transient failures. */
+    private int maxTransientRetries = DEFAULT_MAX_TRANSIENT_RETRIES;
+    /** Initial delay in milliseconds before retrying. */
+    private long transientRetryDelay = DEFAULT_TRANSIENT_RETRY_DELAY;
+    /** Maximum delay in milliseconds before retrying. */
+    private long maxTransientRetryDelay = DEFAULT_MAX_TRANSIENT_RETRY_DELAY;
+    /** Whether to isolate and skip documents failing to commit. */
+    private boolean bisectFailures;
+    /** Whether to expose committer metrics through JMX. */
+    private boolean jmxEnabled;
+    /** Whether to skip upserts unchanged since last committed. */
+    private boolean skipUnchanged;
+    /** Whether to drop requests superseded within a batch. */
+    private boolean coalesceRequests;
+    /** Maximum number of requests coalesced together. */
+    private int coalesceWindowSize = DEFAULT_COALESCE_WINDOW_SIZE;
+    /** Whether to send deletes before upserts. */
+    private boolean phasedWrites;
+    /** Field holding outgoing link targets, enabling link graph mode. */
+    private String linkField;
+    /** Label of nodes linked in link graph mode. */
+    private String linkLabel = DEFAULT_LINK_LABEL;
+    /** Type of link relationships in link graph mode. */
+    private String linkRelationship = DEFAULT_LINK_RELATIONSHIP;
+    /** Maximum number of rows per link graph statement. */
+    private int linkBatchSize = DEFAULT_LINK_BATCH_SIZE;
+    /** Whether to have Neo4j plan all queries on startup. */
+    private boolean validateQueries;
+    /**
+     * Directory where to export CSV files instead of sending to Neo4j.
+     * Kept as a string, {@link Path} not being serializable.
+     */
+    private String exportDir;
+    /** Maximum size of exported CSV files, in bytes. */
+    private long exportMaxFileSize = DEFAULT_EXPORT_MAX_FILE_SIZE;
+    /** Whether sessions start after the latest committed ones. */
+    private boolean chainBookmarks;
+    /** Maximum estimated size of a transaction parameters, in bytes. */
+    private long transactionMaxBytes;
+    /** Transaction duration to aim for, in milliseconds. */
+    private long transactionTargetLatency;
+    /** How content is compressed, if at all. */
+    private ContentCompression contentCompression;
+    /**
+     * Directory of the content store, with the external content mode.
+     * Kept as a string, {@link Path} not being serializable.
+     */
+    private String contentStoreDir;
+    /** How nodes are deleted. */
+    private DeleteStrategy deleteStrategy = DeleteStrategy.SINGLE;
+    /** Maximum number of relationships deleted per transaction. */
+    private int deleteChunkSize = DEFAULT_DELETE_CHUNK_SIZE;
+    /** Whether statements are spooled locally and written in background. */
+    private boolean spoolWrites;
+    /** Maximum number of spooled statements written together. */
+    private int spoolBatchSize = DEFAULT_SPOOL_BATCH_SIZE;
+    /** Maximum number of statements in the spool, if any. */
+    private int spoolMaxDepth;
+    /** Delay before writing spooled statements again, in milliseconds. */
+    private long spoolRetryDelay = DEFAULT_SPOOL_RETRY_DELAY;
+    /** Maximum time to wait for room in a full spool, in milliseconds. */
+    private long spoolMaxWait = DEFAULT_SPOOL_MAX_WAIT;
 
     /**
      * Gets the target database name.
@@ -95,6 +367,15 @@ public class Neo4jCommitterConfig implements Serializable {
         this.credentials.copyFrom(credentials);
     }
 
+    /**
+     * Gets the Neo4j driver connection settings (e.g., connection pool
+     * size, timeouts, encryption).
+     * @return driver settings (never {@code null})
+     */
+    public Neo4jDriverSettings getDriverSettings() {
+        return driverSettings;
+    }
+
     /**
      * Gets the Neo4j connection URI.
      * @return connection URI
@@ -187,6 +468,33 @@ public class Neo4jCommitterConfig implements Serializable {
         this.deleteCypher = deleteCypher;
     }
 
+    /**
+     * Gets additional statements executed for each request, in order.
+     * @return unmodifiable list of statements
+     */
+    public List<PipelineStatement> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+    /**
+     * Sets additional statements executed for each request, in order.
+     * Upsert requests execute the upsert Cypher query (if any) followed
+     * by upsert statements having their condition met, all in the same
+     * transaction. Delete requests do the same with the delete Cypher
+     * query and delete statements.
+     * @param statements statements
+     */
+    public void setStatements(List<PipelineStatement> statements) {
+        CollectionUtil.setAll(this.statements, statements);
+    }
+    /**
+     * Adds a statement executed for each request, after those already
+     * added.
+     * @param statement statement to add
+     */
+    public void addStatement(PipelineStatement statement) {
+        statements.add(statement);
+    }
+
     /**
      * Gets the names of optional query parameters (those that may be absent
      * without causing a client exception).
@@ -210,22 +518,888 @@ public class Neo4jCommitterConfig implements Serializable {
         this.optionalParameters.add(optionalParameter);
     }
 
+    /**
+     * Gets the native types document fields are converted to when sent
+     * as query parameters, keyed by field name.
+     * @return unmodifiable map of field types
+     */
+    public Map<String, FieldType> getFieldTypes() {
+        return Collections.unmodifiableMap(fieldTypes);
+    }
+    /**
+     * Sets the native types document fields are converted to when sent
+     * as query parameters, keyed by field name. Fields without a type are
+     * sent as a list of strings, or as a single string when a multi-values
+     * joiner is set.
+     * @param fieldTypes field types
+     */
+    public void setFieldTypes(Map<String, FieldType> fieldTypes) {
+        CollectionUtil.setAll(this.fieldTypes, fieldTypes);
+    }
+    /**
+     * Sets the native type a document field is converted to when sent
+     * as a query parameter.
+     * @param field field name
+     * @param type field type, or {@code null} to remove it
+     */
+    public void setFieldType(String field, FieldType type) {
+        if (type == null) {
+            fieldTypes.remove(field);
+        } else {
+            fieldTypes.put(field, type);
+        }
+    }
+
+    /**
+     * Gets how commit requests are written to Neo4j.
+     * @return write mode (never {@code null})
+     */
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+    /**
+     * Sets how commit requests are written to Neo4j.
+     * With {@link WriteMode#UNWIND}, queries are wrapped in an
+     * {@code UNWIND $rows AS row} clause, with parameters read from
+     * {@code row}. Queries with a {@code WITH} clause (other than
+     * {@code WITH *}), a {@code CALL {}} subquery or a {@code UNION}
+     * cannot be wrapped and are rejected when the committer is
+     * initialized.
+     * Default is {@link WriteMode#DOCUMENT}.
+     * @param writeMode write mode
+     */
+    public void setWriteMode(WriteMode writeMode) {
+        this.writeMode = writeMode == null ? WriteMode.DOCUMENT : writeMode;
+    }
+
+    /**
+     * Gets the maximum number of statements sent in an explicit
+     * transaction before it is committed, when using
+     * {@link WriteMode#SESSION}.
+     * @return transaction size
+     */
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+    /**
+     * Sets the maximum number of statements sent in an explicit
+     * transaction before it is committed, when using
+     * {@link WriteMode#SESSION}. Zero or less (default) sends each
+     * statement in its own managed transaction (retried by the driver
+     * on transient errors).
+     * @param transactionSize transaction size
+     */
+    public void setTransactionSize(int transactionSize) {
+        this.transactionSize = transactionSize;
+    }
+
+    /**
+     * Gets the maximum number of request partitions committed
+     * concurrently.
+     * @return parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+    /**
+     * Sets the maximum number of request partitions committed
+     * concurrently. When greater than one, requests of a batch are
+     * partitioned on a hash of their reference (the "nodeIdProperty" value)
+     * and each partition is committed in its own thread and session.
+     * Requests for the same reference are always committed in order.
+     * Default is 1 (requests are committed sequentially).
+     * @param parallelism parallelism
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets which Neo4j driver API is used to send requests.
+     * @return engine (never {@code null})
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+    /**
+     * Sets which Neo4j driver API is used to send requests.
+     * Default is {@link Engine#BLOCKING}. The write mode and
+     * parallelism settings only apply to the blocking engine.
+     * @param engine engine
+     */
+    public void setEngine(Engine engine) {
+        this.engine = engine == null ? Engine.BLOCKING : engine;
+    }
+
+    /**
+     * Gets the maximum number of transactions in flight when using the
+     * {@link Engine#ASYNC} engine.
+     * @return maximum number of transactions in flight
+     */
+    public int getMaxInFlightTransactions() {
+        return maxInFlightTransactions;
+    }
+    /**
+     * Sets the maximum number of transactions in flight when using the
+     * {@link Engine#ASYNC} engine. Once reached, the committing thread
+     * waits for a transaction to complete before sending more.
+     * Default is {@value #DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS}.
+     * @param maxInFlightTransactions maximum number of transactions
+     *     in flight
+     */
+    public void setMaxInFlightTransactions(int maxInFlightTransactions) {
+        this.maxInFlightTransactions = maxInFlightTransactions;
+    }
+
+    /**
+     * Gets how document content is sent to Neo4j.
+     * @return content mode (never {@code null})
+     */
+    public ContentMode getContentMode() {
+        return contentMode;
+    }
+    /**
+     * Sets how document content is sent to Neo4j.
+     * Default is {@link ContentMode#FULL}.
+     * @param contentMode content mode
+     */
+    public void setContentMode(ContentMode contentMode) {
+        this.contentMode =
+                contentMode == null ? ContentMode.FULL : contentMode;
+    }
+
+    /**
+     * Gets the maximum number of content characters sent when using
+     * {@link ContentMode#TRUNCATE}.
+     * @return maximum content length
+     */
+    public int getMaxContentLength() {
+        return maxContentLength;
+    }
+    /**
+     * Sets the maximum number of content characters sent when using
+     * {@link ContentMode#TRUNCATE}.
+     * Default is {@value #DEFAULT_MAX_CONTENT_LENGTH}.
+     * @param maxContentLength maximum content length
+     */
+    public void setMaxContentLength(int maxContentLength) {
+        this.maxContentLength = maxContentLength;
+    }
+
+    /**
+     * Gets the number of content characters per chunk when using
+     * {@link ContentMode#CHUNK}.
+     * @return chunk size
+     */
+    public int getContentChunkSize() {
+        return contentChunkSize;
+    }
+    /**
+     * Sets the number of content characters per chunk when using
+     * {@link ContentMode#CHUNK}.
+     * Default is {@value #DEFAULT_CONTENT_CHUNK_SIZE}.
+     * @param contentChunkSize chunk size
+     */
+    public void setContentChunkSize(int contentChunkSize) {
+        this.contentChunkSize = contentChunkSize;
+    }
+
+    /**
+     * Gets the Cypher query executed for each content chunk when using
+     * {@link ContentMode#CHUNK}.
+     * @return chunk Cypher query
+     */
+    public String getChunkCypher() {
+        return chunkCypher;
+    }
+    /**
+     * Sets the Cypher query executed for each content chunk when using
+     * {@link ContentMode#CHUNK}. It is executed after the upsert query,
+     * and receives the node ID and content properties as parameters,
+     * along with the chunk position ({@value #CHUNK_INDEX_PARAM}).
+     * @param chunkCypher chunk Cypher query
+     */
+    public void setChunkCypher(String chunkCypher) {
+        this.chunkCypher = chunkCypher;
+    }
+
+    /**
+     * Gets whether uniqueness constraints on the node ID property are
+     * created when the committer is initialized, if missing.
+     * @return {@code true} if creating constraints
+     */
+    public boolean isCreateNodeIdConstraints() {
+        return createNodeIdConstraints;
+    }
+    /**
+     * Sets whether uniqueness constraints on the node ID property are
+     * created when the committer is initialized, if missing. Having
+     * such constraints (and their backing index) prevents upserts
+     * from scanning all nodes of a label to find a matching node ID.
+     * @param createNodeIdConstraints {@code true} to create constraints
+     */
+    public void setCreateNodeIdConstraints(boolean createNodeIdConstraints) {
+        this.createNodeIdConstraints = createNodeIdConstraints;
+    }
+
+    /**
+     * Gets the labels of nodes identified by the node ID property.
+     * @return node labels (never {@code null})
+     */
+    public List<String> getNodeIdLabels() {
+        return Collections.unmodifiableList(nodeIdLabels);
+    }
+    /**
+     * Sets the labels of nodes identified by the node ID property.
+     * A uniqueness constraint is created for each label when
+     * {@link #isCreateNodeIdConstraints()} is {@code true}.
+     * When no labels are set, they are detected from node patterns
+     * of the upsert query having a property set from the node ID
+     * parameter (e.g., <code>(d:Doc {docId: $id})</code>).
+     * @param nodeIdLabels node labels
+     */
+    public void setNodeIdLabels(List<String> nodeIdLabels) {
+        CollectionUtil.setAll(this.nodeIdLabels, nodeIdLabels);
+    }
+
+    /**
+     * Gets the maximum time in milliseconds to wait for created
+     * constraints to be online.
+     * @return timeout in milliseconds
+     */
+    public long getConstraintsTimeout() {
+        return constraintsTimeout;
+    }
+    /**
+     * Sets the maximum time in milliseconds to wait for created
+     * constraints to be online. Default is 5 minutes.
+     * @param constraintsTimeout timeout in milliseconds
+     */
+    public void setConstraintsTimeout(long constraintsTimeout) {
+        this.constraintsTimeout = constraintsTimeout;
+    }
+
+    /**
+     * Gets the maximum number of times a write failing for transient
+     * reasons is retried.
+     * @return maximum number of retries
+     */
+    public int getMaxTransientRetries() {
+        return maxTransientRetries;
+    }
+    /**
+     * Sets the maximum number of times a write failing for transient
+     * reasons (e.g., deadlock, cluster leader switch, unavailable server)
+     * is retried. Zero disables retries.
+     * Default is {@value #DEFAULT_MAX_TRANSIENT_RETRIES}.
+     * @param maxTransientRetries maximum number of retries
+     */
+    public void setMaxTransientRetries(int maxTransientRetries) {
+        this.maxTransientRetries = maxTransientRetries;
+    }
+
+    /**
+     * Gets the delay in milliseconds before the first retry of a write
+     * failing for transient reasons.
+     * @return delay in milliseconds
+     */
+    public long getTransientRetryDelay() {
+        return transientRetryDelay;
+    }
+    /**
+     * Sets the delay in milliseconds before the first retry of a write
+     * failing for transient reasons. The delay doubles with each retry,
+     * up to {@link #getMaxTransientRetryDelay()}, and is randomized
+     * so concurrent writers do not all retry at the same time.
+     * Default is {@value #DEFAULT_TRANSIENT_RETRY_DELAY}.
+     * @param transientRetryDelay delay in milliseconds
+     */
+    public void setTransientRetryDelay(long transientRetryDelay) {
+        this.transientRetryDelay = transientRetryDelay;
+    }
+
+    /**
+     * Gets the maximum delay in milliseconds between retries of a write
+     * failing for transient reasons.
+     * @return delay in milliseconds
+     */
+    public long getMaxTransientRetryDelay() {
+        return maxTransientRetryDelay;
+    }
+    /**
+     * Sets the maximum delay in milliseconds between retries of a write
+     * failing for transient reasons. Default is 30 seconds.
+     * @param maxTransientRetryDelay delay in milliseconds
+     */
+    public void setMaxTransientRetryDelay(long maxTransientRetryDelay) {
+        this.maxTransientRetryDelay = maxTransientRetryDelay;
+    }
+
+    /**
+     * Gets whether documents failing to commit for non-transient reasons
+     * are isolated and skipped.
+     * @return {@code true} if bisecting failures
+     */
+    public boolean isBisectFailures() {
+        return bisectFailures;
+    }
+    /**
+     * Sets whether documents failing to commit for non-transient reasons
+     * are isolated and skipped. When {@code true}, statements failing
+     * together (e.g., in the same transaction) are split in halves and
+     * written again, recursively, until the failing documents are
+     * isolated. Those are logged as errors and skipped, so that the rest
+     * of the batch is committed. When {@code false} (default), such
+     * failures fail the entire batch.
+     * @param bisectFailures {@code true} to bisect failures
+     */
+    public void setBisectFailures(boolean bisectFailures) {
+        this.bisectFailures = bisectFailures;
+    }
+
+    /**
+     * Gets whether committer metrics are exposed through JMX.
+     * @return {@code true} if JMX is enabled
+     */
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+    /**
+     * Sets whether committer metrics are exposed through JMX.
+     * When enabled, Neo4j driver metrics are also enabled to expose
+     * connection pool usage.
+     * @param jmxEnabled {@code true} to enable JMX
+     */
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    /**
+     * Gets whether upserts unchanged since last committed are skipped.
+     * @return {@code true} if skipping unchanged upserts
+     */
+    public boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+    /**
+     * Sets whether upserts unchanged since last committed are skipped.
+     * When {@code true}, a checksum of each committed upsert statement
+     * and parameters is kept in the committer working directory, and
+     * upserts with the same checksum as the last one committed for
+     * their reference are not sent again. Deletes remove the checksum.
+     * Upserts with content sent in chunks are always sent.
+     * @param skipUnchanged {@code true} to skip unchanged upserts
+     */
+    public void setSkipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    /**
+     * Gets whether requests superseded by a later request for the same
+     * reference in the same batch are dropped.
+     * @return {@code true} if coalescing requests
+     */
+    public boolean isCoalesceRequests() {
+        return coalesceRequests;
+    }
+    /**
+     * Sets whether requests superseded by a later request for the same
+     * reference in the same batch are dropped. When {@code true}, only
+     * the last upsert or delete for each reference is sent, so your
+     * upsert query should describe the entire document rather than
+     * add to what previous upserts created.
+     * @param coalesceRequests {@code true} to coalesce requests
+     */
+    public void setCoalesceRequests(boolean coalesceRequests) {
+        this.coalesceRequests = coalesceRequests;
+    }
+
+    /**
+     * Gets the maximum number of consecutive requests of a batch
+     * coalesced together.
+     * @return window size
+     */
+    public int getCoalesceWindowSize() {
+        return coalesceWindowSize;
+    }
+    /**
+     * Sets the maximum number of consecutive requests of a batch
+     * coalesced together. Batches are read that many requests at a
+     * time, bounding memory usage. Requests further apart are not
+     * coalesced.
+     * Default is {@value #DEFAULT_COALESCE_WINDOW_SIZE}.
+     * @param coalesceWindowSize window size
+     */
+    public void setCoalesceWindowSize(int coalesceWindowSize) {
+        this.coalesceWindowSize = coalesceWindowSize;
+    }
+
+    /**
+     * Gets whether the deletes of a batch are sent before its upserts.
+     * @return {@code true} if writing in phases
+     */
+    public boolean isPhasedWrites() {
+        return phasedWrites;
+    }
+    /**
+     * Sets whether the deletes of a batch are sent before its upserts.
+     * When {@code true}, requests are coalesced (see
+     * {@link #setCoalesceRequests(boolean)}) and the remaining ones
+     * of each coalescing window are reordered into a delete phase
+     * followed by an upsert phase. With the {@code UNWIND} write mode,
+     * each phase is sent as a single grouped statement.
+     * @param phasedWrites {@code true} to write in phases
+     */
+    public void setPhasedWrites(boolean phasedWrites) {
+        this.phasedWrites = phasedWrites;
+    }
+
+    /**
+     * Gets the document field holding the targets of its outgoing links.
+     * @return link field, or {@code null} if not in link graph mode
+     */
+    public String getLinkField() {
+        return linkField;
+    }
+    /**
+     * Sets the document field holding the targets of its outgoing links
+     * (e.g., "collector.referenced-urls"), enabling link graph mode.
+     * After each batch, a node is created for every distinct source and
+     * target missing from the graph, and the outgoing links of every
+     * upserted document are replaced with relationships to its targets,
+     * all with a few bulk statements. Nodes are identified by
+     * the node ID property.
+     * @param linkField link field, or {@code null} to disable
+     */
+    public void setLinkField(String linkField) {
+        this.linkField = linkField;
+    }
+
+    /**
+     * Gets the label of nodes linked in link graph mode.
+     * @return node label
+     */
+    public String getLinkLabel() {
+        return linkLabel;
+    }
+    /**
+     * Sets the label of nodes linked in link graph mode. Should match
+     * the label of document nodes created by the upsert Cypher.
+     * Default is {@value #DEFAULT_LINK_LABEL}.
+     * @param linkLabel node label
+     */
+    public void setLinkLabel(String linkLabel) {
+        this.linkLabel = linkLabel;
+    }
+
+    /**
+     * Gets the type of link relationships in link graph mode.
+     * @return relationship type
+     */
+    public String getLinkRelationship() {
+        return linkRelationship;
+    }
+    /**
+     * Sets the type of link relationships in link graph mode.
+     * Default is {@value #DEFAULT_LINK_RELATIONSHIP}.
+     * @param linkRelationship relationship type
+     */
+    public void setLinkRelationship(String linkRelationship) {
+        this.linkRelationship = linkRelationship;
+    }
+
+    /**
+     * Gets the maximum number of rows sent with each link graph statement.
+     * @return link batch size
+     */
+    public int getLinkBatchSize() {
+        return linkBatchSize;
+    }
+    /**
+     * Sets the maximum number of rows (nodes or links) sent with each
+     * link graph statement, each in its own transaction.
+     * Default is {@value #DEFAULT_LINK_BATCH_SIZE}.
+     * @param linkBatchSize link batch size
+     */
+    public void setLinkBatchSize(int linkBatchSize) {
+        this.linkBatchSize = linkBatchSize;
+    }
+
+    /**
+     * Gets whether to have Neo4j plan all queries on startup.
+     * @return {@code true} if validating queries
+     */
+    public boolean isValidateQueries() {
+        return validateQueries;
+    }
+    /**
+     * Sets whether to have Neo4j plan (EXPLAIN) all queries on startup,
+     * as they will be sent, without executing them. The committer fails
+     * to start if a query is invalid.
+     * Warnings are logged for Neo4j notifications and costly plan
+     * operators (e.g., label scans). Planned queries are cached by Neo4j,
+     * sparing the first batch the planning cost.
+     * @param validateQueries {@code true} to validate queries
+     */
+    public void setValidateQueries(boolean validateQueries) {
+        this.validateQueries = validateQueries;
+    }
+
+    /**
+     * Gets the directory where upserts are exported as CSV files for
+     * "neo4j-admin import", instead of being sent to Neo4j.
+     * @return export directory, or {@code null} if not exporting
+     */
+    public Path getExportDir() {
+        return exportDir == null ? null : Paths.get(exportDir);
+    }
+    /**
+     * Sets the directory where upserts are exported as CSV files for
+     * "neo4j-admin import", instead of being sent to Neo4j. Meant for
+     * the initial load of a new database. No connection to Neo4j is made
+     * and deletes are ignored.
+     * @param exportDir export directory, or {@code null} to send
+     *     requests to Neo4j
+     */
+    public void setExportDir(Path exportDir) {
+        this.exportDir = exportDir == null ? null : exportDir.toString();
+    }
+
+    /**
+     * Gets the maximum size of exported CSV files, in bytes.
+     * @return maximum file size
+     */
+    public long getExportMaxFileSize() {
+        return exportMaxFileSize;
+    }
+    /**
+     * Sets the maximum size of exported CSV files, in bytes. Rows are
+     * written to a new file once reached. Default is 256 MB.
+     * @param exportMaxFileSize maximum file size
+     */
+    public void setExportMaxFileSize(long exportMaxFileSize) {
+        this.exportMaxFileSize = exportMaxFileSize;
+    }
+
+    /**
+     * Gets whether sessions start with the bookmark of the latest
+     * committed sessions.
+     * @return {@code true} if chaining bookmarks
+     */
+    public boolean isChainBookmarks() {
+        return chainBookmarks;
+    }
+    /**
+     * Sets whether sessions start with the bookmark of the latest
+     * committed sessions. On a cluster, this guarantees each session
+     * sees the writes of previous ones (causal consistency), even when
+     * served by another cluster member, at the cost of waiting for that
+     * member to catch up. Useful when queries or content chunks depend
+     * on nodes written in previous sessions.
+     * @param chainBookmarks {@code true} to chain bookmarks
+     */
+    public void setChainBookmarks(boolean chainBookmarks) {
+        this.chainBookmarks = chainBookmarks;
+    }
+
+    /**
+     * Gets the maximum estimated size of the parameters sent in a single
+     * transaction, in bytes.
+     * @return maximum transaction size in bytes
+     */
+    public long getTransactionMaxBytes() {
+        return transactionMaxBytes;
+    }
+    /**
+     * Sets the maximum estimated size of the parameters sent in a single
+     * transaction, in bytes, so a few large documents do not exhaust
+     * Neo4j transaction memory. Applies to {@link WriteMode#UNWIND} and
+     * to {@link WriteMode#SESSION} with a "transactionSize". A
+     * transaction is committed once it reaches that size, and a
+     * document larger than that is sent in its own transaction.
+     * Zero or less (default) means no maximum.
+     * @param transactionMaxBytes maximum transaction size in bytes
+     */
+    public void setTransactionMaxBytes(long transactionMaxBytes) {
+        this.transactionMaxBytes = transactionMaxBytes;
+    }
+
+    /**
+     * Gets the transaction duration to aim for, in milliseconds.
+     * @return target latency in milliseconds
+     */
+    public long getTransactionTargetLatency() {
+        return transactionTargetLatency;
+    }
+    /**
+     * Sets the transaction duration to aim for, in milliseconds. The
+     * number of statements per transaction is then adjusted after each
+     * transaction, based on how long it took, without ever exceeding
+     * "transactionSize" (with {@link WriteMode#SESSION}) or the batch
+     * size (with {@link WriteMode#UNWIND}). Zero or less (default) keeps
+     * the number of statements fixed.
+     * @param transactionTargetLatency target latency in milliseconds
+     */
+    public void setTransactionTargetLatency(long transactionTargetLatency) {
+        this.transactionTargetLatency = transactionTargetLatency;
+    }
+
+    /**
+     * Gets how document content is compressed before being sent.
+     * @return content compression, or {@code null} if not compressed
+     */
+    public ContentCompression getContentCompression() {
+        return contentCompression;
+    }
+    /**
+     * Sets how document content is compressed before being sent. The
+     * "nodeContentProperty" parameter then holds the compressed UTF-8
+     * content as a byte array instead of a string, and the
+     * {@value #CONTENT_CODEC_PARAM} parameter the codec name, to be
+     * stored along with it. Reduces network traffic and storage for
+     * content rarely read back. Cannot be used with
+     * {@link ContentMode#CHUNK}, nor when exporting.
+     * @param contentCompression content compression, or {@code null}
+     *     to send content as a string (default)
+     */
+    public void setContentCompression(
+            ContentCompression contentCompression) {
+        this.contentCompression = contentCompression;
+    }
+
+    /**
+     * Gets the directory where content is stored when using
+     * {@link ContentMode#EXTERNAL}.
+     * @return content store directory, or {@code null} for the default
+     */
+    public Path getContentStoreDir() {
+        return contentStoreDir == null ? null : Paths.get(contentStoreDir);
+    }
+    /**
+     * Sets the directory where content is stored when using
+     * {@link ContentMode#EXTERNAL}. Each distinct content is stored
+     * once, in a file named after its SHA-256 hash, under two levels of
+     * directories named after the start of that hash. Default is a
+     * "{@value #DEFAULT_CONTENT_STORE_DIR_NAME}" directory under the
+     * committer working directory.
+     * @param contentStoreDir content store directory
+     */
+    public void setContentStoreDir(Path contentStoreDir) {
+        this.contentStoreDir = contentStoreDir == null
+                ? null : contentStoreDir.toString();
+    }
+
+    /**
+     * Gets how nodes are deleted.
+     * @return delete strategy
+     */
+    public DeleteStrategy getDeleteStrategy() {
+        return deleteStrategy;
+    }
+    /**
+     * Sets how nodes are deleted. With {@link DeleteStrategy#CHUNKED}
+     * or {@link DeleteStrategy#IN_TRANSACTIONS}, relationships of nodes
+     * to delete are first deleted in transactions of at most
+     * "deleteChunkSize" relationships, right before each delete
+     * statement is sent, so nodes with many relationships never require
+     * one large transaction. Nodes are looked up by their node ID
+     * property, for each label resolved for node ID constraints.
+     * Default is {@link DeleteStrategy#SINGLE}.
+     * @param deleteStrategy delete strategy
+     */
+    public void setDeleteStrategy(DeleteStrategy deleteStrategy) {
+        this.deleteStrategy = deleteStrategy == null
+                ? DeleteStrategy.SINGLE : deleteStrategy;
+    }
+
+    /**
+     * Gets the maximum number of relationships deleted per transaction
+     * when deleting relationships first.
+     * @return delete chunk size
+     */
+    public int getDeleteChunkSize() {
+        return deleteChunkSize;
+    }
+    /**
+     * Sets the maximum number of relationships deleted per transaction
+     * when deleting relationships first.
+     * Default is {@value #DEFAULT_DELETE_CHUNK_SIZE}.
+     * @param deleteChunkSize delete chunk size
+     */
+    public void setDeleteChunkSize(int deleteChunkSize) {
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    /**
+     * Gets whether statements are spooled locally and written to Neo4j
+     * in the background.
+     * @return {@code true} if spooling writes
+     */
+    public boolean isSpoolWrites() {
+        return spoolWrites;
+    }
+    /**
+     * Sets whether statements are spooled locally and written to Neo4j
+     * in the background. Committing a batch then only converts its
+     * requests to statements and appends them to a durable spool file
+     * in the committer working directory, so that crawling is not held
+     * back by a slow or unavailable Neo4j. A background thread writes
+     * spooled statements to Neo4j, "spoolBatchSize" at a time, trying
+     * again after "spoolRetryDelay" when it fails. Statements left in
+     * the spool are written when the committer is next initialized.
+     * Cannot be used with {@link ContentMode#CHUNK}. Ignored when
+     * exporting.
+     * @param spoolWrites {@code true} to spool writes
+     */
+    public void setSpoolWrites(boolean spoolWrites) {
+        this.spoolWrites = spoolWrites;
+    }
+
+    /**
+     * Gets the maximum number of spooled statements written together.
+     * @return spool batch size
+     */
+    public int getSpoolBatchSize() {
+        return spoolBatchSize;
+    }
+    /**
+     * Sets the maximum number of spooled statements written together.
+     * They are sent in transactions sized as configured for the write
+     * mode, with {@link WriteMode#UNWIND} statements grouped as UNWIND
+     * rows and statements of other write modes in explicit transactions.
+     * Default is {@value #DEFAULT_SPOOL_BATCH_SIZE}.
+     * @param spoolBatchSize spool batch size
+     */
+    public void setSpoolBatchSize(int spoolBatchSize) {
+        this.spoolBatchSize = spoolBatchSize;
+    }
+
+    /**
+     * Gets the maximum number of statements in the spool.
+     * @return maximum spool depth
+     */
+    public int getSpoolMaxDepth() {
+        return spoolMaxDepth;
+    }
+    /**
+     * Sets the maximum number of statements in the spool. Once reached,
+     * committing a batch waits for spooled statements to be written
+     * first, up to "spoolMaxWait", bounding the spool size when Neo4j
+     * remains unavailable. Zero or less (default) means no maximum.
+     * @param spoolMaxDepth maximum spool depth
+     */
+    public void setSpoolMaxDepth(int spoolMaxDepth) {
+        this.spoolMaxDepth = spoolMaxDepth;
+    }
+
+    /**
+     * Gets the delay before writing spooled statements again after
+     * failing to, in milliseconds.
+     * @return spool retry delay in milliseconds
+     */
+    public long getSpoolRetryDelay() {
+        return spoolRetryDelay;
+    }
+    /**
+     * Sets the delay before writing spooled statements again after
+     * failing to, in milliseconds, when Neo4j is unavailable. This is on
+     * top of transient failure retries. Statements failing for other
+     * reasons are moved to the spool quarantine instead.
+     * Default is {@value #DEFAULT_SPOOL_RETRY_DELAY}.
+     * @param spoolRetryDelay spool retry delay in milliseconds
+     */
+    public void setSpoolRetryDelay(long spoolRetryDelay) {
+        this.spoolRetryDelay = spoolRetryDelay;
+    }
+
+    /**
+     * Gets the maximum time to wait for room in a full spool, in
+     * milliseconds.
+     * @return spool maximum wait in milliseconds
+     */
+    public long getSpoolMaxWait() {
+        return spoolMaxWait;
+    }
+    /**
+     * Sets the maximum time to wait for room in a full spool, in
+     * milliseconds, after which committing a batch fails. Only applies
+     * with a "spoolMaxDepth".
+     * Default is {@value #DEFAULT_SPOOL_MAX_WAIT}.
+     * @param spoolMaxWait spool maximum wait in milliseconds
+     */
+    public void setSpoolMaxWait(long spoolMaxWait) {
+        this.spoolMaxWait = spoolMaxWait;
+    }
+
     void saveToXML(XML xml) {
         xml.addElement("uri", getUri());
         xml.addElement("database", getDatabase());
         credentials.saveToXML(xml.addElement("credentials"));
+        driverSettings.saveToXML(xml.addElement("driverSettings"));
         xml.addElement("multiValuesJoiner", getMultiValuesJoiner());
         xml.addElement("nodeIdProperty", getNodeIdProperty());
         xml.addElement("nodeContentProperty", getNodeContentProperty());
         xml.addElement("upsertCypher", getUpsertCypher());
         xml.addElement("deleteCypher", getDeleteCypher());
+        XML statementsXML = xml.addElement("statements");
+        statements.forEach(s -> s.saveToXML(
+                statementsXML.addElement("statement")));
         xml.addDelimitedElementList(
                 "optionalParameters", new ArrayList<>(optionalParameters));
+        XML typesXML = xml.addElement("fieldTypes");
+        fieldTypes.forEach((field, type) -> typesXML.addElement("field")
+                .setAttribute("name", field)
+                .setAttribute("type", type));
+        xml.addElement("writeMode", getWriteMode());
+        xml.addElement("transactionSize", getTransactionSize());
+        xml.addElement("parallelism", getParallelism());
+        xml.addElement("engine", getEngine());
+        xml.addElement(
+                "maxInFlightTransactions", getMaxInFlightTransactions());
+        xml.addElement("contentMode", getContentMode());
+        xml.addElement("maxContentLength", getMaxContentLength());
+        xml.addElement("contentChunkSize", getContentChunkSize());
+        xml.addElement("chunkCypher", getChunkCypher());
+        xml.addElement(
+                "createNodeIdConstraints", isCreateNodeIdConstraints());
+        xml.addDelimitedElementList("nodeIdLabels", nodeIdLabels);
+        xml.addElement("constraintsTimeout", getConstraintsTimeout());
+        xml.addElement("maxTransientRetries", getMaxTransientRetries());
+        xml.addElement("transientRetryDelay", getTransientRetryDelay());
+        xml.addElement(
+                "maxTransientRetryDelay", getMaxTransientRetryDelay());
+        xml.addElement("bisectFailures", isBisectFailures());
+        xml.addElement("jmxEnabled", isJmxEnabled());
+        xml.addElement("skipUnchanged", isSkipUnchanged());
+        xml.addElement("coalesceRequests", isCoalesceRequests());
+        xml.addElement("coalesceWindowSize", getCoalesceWindowSize());
+        xml.addElement("phasedWrites", isPhasedWrites());
+        xml.addElement("linkField", getLinkField());
+        xml.addElement("linkLabel", getLinkLabel());
+        xml.addElement("linkRelationship", getLinkRelationship());
+        xml.addElement("linkBatchSize", getLinkBatchSize());
+        xml.addElement("validateQueries", isValidateQueries());
+        xml.addElement("exportDir", getExportDir());
+        xml.addElement("exportMaxFileSize", getExportMaxFileSize());
+        xml.addElement("chainBookmarks", isChainBookmarks());
+        xml.addElement("transactionMaxBytes", getTransactionMaxBytes());
+        xml.addElement(
+                "transactionTargetLatency", getTransactionTargetLatency());
+        xml.addElement("contentCompression", getContentCompression());
+        xml.addElement("contentStoreDir", getContentStoreDir());
+        xml.addElement("deleteStrategy", getDeleteStrategy());
+        xml.addElement("deleteChunkSize", getDeleteChunkSize());
+        xml.addElement("spoolWrites", isSpoolWrites());
+        xml.addElement("spoolBatchSize", getSpoolBatchSize());
+        xml.addElement("spoolMaxDepth", getSpoolMaxDepth());
+        xml.addElement("spoolRetryDelay", getSpoolRetryDelay());
+        xml.addElement("spoolMaxWait", getSpoolMaxWait());
     }
     void loadFromXML(XML xml) {
         setUri(xml.getString("uri", getUri()));
         setDatabase(xml.getString("database", getDatabase()));
         xml.ifXML("credentials", x -> x.populate(credentials));
+        xml.ifXML("driverSettings", driverSettings::loadFromXML);
         setMultiValuesJoiner(xml.getString(
                 "multiValuesJoiner", getMultiValuesJoiner()));
         setNodeIdProperty(xml.getString("nodeIdProperty", getNodeIdProperty()));
@@ -233,12 +1407,102 @@ public class Neo4jCommitterConfig implements Serializable {
                 xml.getString("nodeContentProperty", getNodeContentProperty()));
         setUpsertCypher(xml.getString("upsertCypher", getUpsertCypher()));
         setDeleteCypher(xml.getString("deleteCypher", getDeleteCypher()));
+        xml.ifXML("statements", statementsXML -> {
+            List<PipelineStatement> list = new ArrayList<>();
+            statementsXML.getXMLList("statement").forEach(x -> {
+                PipelineStatement statement = new PipelineStatement();
+                statement.loadFromXML(x);
+                list.add(statement);
+            });
+            setStatements(list);
+        });
         List<String> params =
                 xml.getDelimitedStringList("optionalParameters",
                         (List<String>) null);
         if (params != null) {
             setOptionalParameters(new HashSet<>(params));
         }
+        xml.ifXML("fieldTypes", typesXML -> {
+            Map<String, FieldType> types = new LinkedHashMap<>();
+            typesXML.getXMLList("field").forEach(x -> types.put(
+                    x.getString("@name"),
+                    x.getEnum("@type", FieldType.class, FieldType.STRING)));
+            setFieldTypes(types);
+        });
+        setWriteMode(xml.getEnum(
+                "writeMode", WriteMode.class, getWriteMode()));
+        setTransactionSize(
+                xml.getInteger("transactionSize", getTransactionSize()));
+        setParallelism(xml.getInteger("parallelism", getParallelism()));
+        setEngine(xml.getEnum("engine", Engine.class, getEngine()));
+        setMaxInFlightTransactions(xml.getInteger(
+                "maxInFlightTransactions", getMaxInFlightTransactions()));
+        setContentMode(xml.getEnum(
+                "contentMode", ContentMode.class, getContentMode()));
+        setMaxContentLength(
+                xml.getInteger("maxContentLength", getMaxContentLength()));
+        setContentChunkSize(
+                xml.getInteger("contentChunkSize", getContentChunkSize()));
+        setChunkCypher(xml.getString("chunkCypher", getChunkCypher()));
+        setCreateNodeIdConstraints(xml.getBoolean(
+                "createNodeIdConstraints", isCreateNodeIdConstraints()));
+        List<String> labels = xml.getDelimitedStringList(
+                "nodeIdLabels", (List<String>) null);
+        if (labels != null) {
+            setNodeIdLabels(labels);
+        }
+        setConstraintsTimeout(xml.getDurationMillis(
+                "constraintsTimeout", getConstraintsTimeout()));
+        setMaxTransientRetries(xml.getInteger(
+                "maxTransientRetries", getMaxTransientRetries()));
+        setTransientRetryDelay(xml.getDurationMillis(
+                "transientRetryDelay", getTransientRetryDelay()));
+        setMaxTransientRetryDelay(xml.getDurationMillis(
+                "maxTransientRetryDelay", getMaxTransientRetryDelay()));
+        setBisectFailures(
+                xml.getBoolean("bisectFailures", isBisectFailures()));
+        setJmxEnabled(xml.getBoolean("jmxEnabled", isJmxEnabled()));
+        setSkipUnchanged(
+                xml.getBoolean("skipUnchanged", isSkipUnchanged()));
+        setCoalesceRequests(
+                xml.getBoolean("coalesceRequests", isCoalesceRequests()));
+        setCoalesceWindowSize(xml.getInteger(
+                "coalesceWindowSize", getCoalesceWindowSize()));
+        setPhasedWrites(xml.getBoolean("phasedWrites", isPhasedWrites()));
+        setLinkField(xml.getString("linkField", getLinkField()));
+        setLinkLabel(xml.getString("linkLabel", getLinkLabel()));
+        setLinkRelationship(
+                xml.getString("linkRelationship", getLinkRelationship()));
+        setLinkBatchSize(
+                xml.getInteger("linkBatchSize", getLinkBatchSize()));
+        setValidateQueries(
+                xml.getBoolean("validateQueries", isValidateQueries()));
+        setExportDir(xml.getPath("exportDir", getExportDir()));
+        setExportMaxFileSize(xml.getDataSizeInBytes(
+                "exportMaxFileSize", getExportMaxFileSize()));
+        setChainBookmarks(
+                xml.getBoolean("chainBookmarks", isChainBookmarks()));
+        setTransactionMaxBytes(xml.getDataSizeInBytes(
+                "transactionMaxBytes", getTransactionMaxBytes()));
+        setTransactionTargetLatency(xml.getDurationMillis(
+                "transactionTargetLatency", getTransactionTargetLatency()));
+        setContentCompression(xml.getEnum("contentCompression",
+                ContentCompression.class, getContentCompression()));
+        setContentStoreDir(
+                xml.getPath("contentStoreDir", getContentStoreDir()));
+        setDeleteStrategy(xml.getEnum(
+                "deleteStrategy", DeleteStrategy.class, getDeleteStrategy()));
+        setDeleteChunkSize(
+                xml.getInteger("deleteChunkSize", getDeleteChunkSize()));
+        setSpoolWrites(xml.getBoolean("spoolWrites", isSpoolWrites()));
+        setSpoolBatchSize(
+                xml.getInteger("spoolBatchSize", getSpoolBatchSize()));
+        setSpoolMaxDepth(
+                xml.getInteger("spoolMaxDepth", getSpoolMaxDepth()));
+        setSpoolRetryDelay(xml.getDurationMillis(
+                "spoolRetryDelay", getSpoolRetryDelay()));
+        setSpoolMaxWait(
+                xml.getDurationMillis("spoolMaxWait", getSpoolMaxWait()));
     }
 
     @Override
@@ -0,0 +1,249 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.Driver;
+
+/**
+ * <p>
+ * Neo4j Committer metrics, recorded by the Neo4j client and exposed
+ * through JMX. Connection pool metrics are only available when JMX is
+ * enabled (they require Neo4j driver metrics). The spool depth is only
+ * available when spooling writes.
+ * </p>
+ */
+public class Neo4jCommitterMetrics implements Neo4jCommitterMetricsMBean {
+
+    private final LongAdder upserts = new LongAdder();
+    private final LongAdder deletes = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder links = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchRequests = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final LatencyHistogram transactions = new LatencyHistogram();
+    private final LongAdder transactionFailures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder contentBytes = new LongAdder();
+    // Only set when driver metrics are enabled
+    private volatile Driver driver;
+    // Only set when spooling writes
+    private volatile Spool spool;
+
+    void setDriver(Driver driver) {
+        this.driver = driver;
+    }
+    void setSpool(Spool spool) {
+        this.spool = spool;
+    }
+
+    void upsertSent() {
+        upserts.increment();
+    }
+    void deleteSent() {
+        deletes.increment();
+    }
+    void requestSkipped() {
+        skipped.increment();
+    }
+    void upsertUnchanged() {
+        unchanged.increment();
+    }
+    void requestsCoalesced(int count) {
+        coalesced.add(count);
+    }
+    void linksCreated(int count) {
+        links.add(count);
+    }
+    void batchCommitted(int size, long nanos) {
+        batches.increment();
+        batchRequests.add(size);
+        batchNanos.add(nanos);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+    }
+    void transactionExecuted(long nanos, boolean success) {
+        transactions.record(TimeUnit.NANOSECONDS.toMillis(nanos));
+        if (!success) {
+            transactionFailures.increment();
+        }
+    }
+    void retried() {
+        retries.increment();
+    }
+    void contentSent(CharSequence content) {
+        contentBytes.add(utf8Length(content));
+    }
+    void contentSent(byte[] content) {
+        contentBytes.add(content.length);
+    }
+
+    @Override
+    public long getUpsertCount() {
+        return upserts.sum();
+    }
+    @Override
+    public long getDeleteCount() {
+        return deletes.sum();
+    }
+    @Override
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+    @Override
+    public long getUnchangedCount() {
+        return unchanged.sum();
+    }
+    @Override
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+    @Override
+    public long getLinkCount() {
+        return links.sum();
+    }
+    @Override
+    public long getBatchCount() {
+        return batches.sum();
+    }
+    @Override
+    public double getAverageBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) batchRequests.sum() / count;
+    }
+    @Override
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+    @Override
+    public double getRequestsPerSecond() {
+        long nanos = batchNanos.sum();
+        return nanos == 0 ? 0
+                : batchRequests.sum() * (double) TimeUnit.SECONDS.toNanos(1)
+                        / nanos;
+    }
+    @Override
+    public long getTransactionCount() {
+        return transactions.getCount();
+    }
+    @Override
+    public long getTransactionFailureCount() {
+        return transactionFailures.sum();
+    }
+    @Override
+    public double getTransactionMeanMillis() {
+        return transactions.getMean();
+    }
+    @Override
+    public long getTransaction50thPercentileMillis() {
+        return transactions.getPercentile(0.50);
+    }
+    @Override
+    public long getTransaction95thPercentileMillis() {
+        return transactions.getPercentile(0.95);
+    }
+    @Override
+    public long getTransaction99thPercentileMillis() {
+        return transactions.getPercentile(0.99);
+    }
+    @Override
+    public long getTransactionMaxMillis() {
+        return transactions.getMax();
+    }
+    @Override
+    public long getRetryCount() {
+        return retries.sum();
+    }
+    @Override
+    public long getContentBytesSent() {
+        return contentBytes.sum();
+    }
+    @Override
+    public int getSpoolDepth() {
+        Spool s = spool;
+        return s == null ? 0 : s.size();
+    }
+    @Override
+    public int getPoolConnectionsInUse() {
+        return (int) sumPools(ConnectionPoolMetrics::inUse);
+    }
+    @Override
+    public int getPoolConnectionsIdle() {
+        return (int) sumPools(ConnectionPoolMetrics::idle);
+    }
+    @Override
+    public int getPoolConnectionsAcquiring() {
+        return (int) sumPools(ConnectionPoolMetrics::acquiring);
+    }
+    @Override
+    public long getPoolAcquisitionTimeouts() {
+        return sumPools(ConnectionPoolMetrics::timedOutToAcquire);
+    }
+
+    // There is one pool per server (more than one with a cluster)
+    private long sumPools(ToLongFunction<ConnectionPoolMetrics> metric) {
+        Driver d = driver;
+        if (d == null) {
+            return 0;
+        }
+        return d.metrics().connectionPoolMetrics().stream()
+                .mapToLong(metric).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d upserts, %d deletes, %d skipped, "
+                + "%d unchanged, %d coalesced, %d links, %d batches "
+                + "(%.1f requests/sec.), %d transactions (%d failed, "
+                + "%d retries, mean %.1fms, p95 %dms, max %dms), "
+                + "%d content bytes, %d spooled",
+                getUpsertCount(), getDeleteCount(), getSkippedCount(),
+                getUnchangedCount(), getCoalescedCount(), getLinkCount(),
+                getBatchCount(),
+                getRequestsPerSecond(),
+                getTransactionCount(), getTransactionFailureCount(),
+                getRetryCount(), getTransactionMeanMillis(),
+                getTransaction95thPercentileMillis(),
+                getTransactionMaxMillis(), getContentBytesSent(),
+                getSpoolDepth());
+    }
+
+    // Number of bytes of a string encoded in UTF-8, without encoding it
+    static long utf8Length(CharSequence s) {
+        long length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch < 0x80) {
+                length++;
+            } else if (ch < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(ch)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
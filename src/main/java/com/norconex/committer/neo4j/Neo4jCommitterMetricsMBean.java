@@ -0,0 +1,161 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+/**
+ * <p>
+ * Neo4j Committer metrics, exposed through JMX. Counts and durations
+ * are cumulated since the committer was initialized.
+ * </p>
+ */
+public interface Neo4jCommitterMetricsMBean {
+
+    /**
+     * Gets the number of upsert requests committed to Neo4j.
+     * @return upsert count
+     */
+    long getUpsertCount();
+    /**
+     * Gets the number of delete requests committed to Neo4j.
+     * @return delete count
+     */
+    long getDeleteCount();
+    /**
+     * Gets the number of requests skipped after failing to commit.
+     * @return skipped count
+     */
+    long getSkippedCount();
+    /**
+     * Gets the number of upsert requests not sent to Neo4j because
+     * unchanged since last committed.
+     * @return unchanged count
+     */
+    long getUnchangedCount();
+    /**
+     * Gets the number of requests not sent to Neo4j because superseded
+     * by a later request for the same reference in the same batch.
+     * @return coalesced count
+     */
+    long getCoalescedCount();
+    /**
+     * Gets the number of link relationships created in link graph mode.
+     * @return link count
+     */
+    long getLinkCount();
+
+    /**
+     * Gets the number of batches committed (or attempted).
+     * @return batch count
+     */
+    long getBatchCount();
+    /**
+     * Gets the average number of requests per batch.
+     * @return average batch size
+     */
+    double getAverageBatchSize();
+    /**
+     * Gets the largest number of requests in a batch.
+     * @return maximum batch size
+     */
+    long getMaxBatchSize();
+    /**
+     * Gets the number of requests committed per second, measured only
+     * while committing batches. A value much higher than the rate at
+     * which documents are collected means Neo4j is not the bottleneck.
+     * @return requests per second
+     */
+    double getRequestsPerSecond();
+
+    /**
+     * Gets the number of transactions executed (including failed ones
+     * and retries).
+     * @return transaction count
+     */
+    long getTransactionCount();
+    /**
+     * Gets the number of failed transactions.
+     * @return failed transaction count
+     */
+    long getTransactionFailureCount();
+    /**
+     * Gets the average transaction duration.
+     * @return duration in milliseconds
+     */
+    double getTransactionMeanMillis();
+    /**
+     * Gets the approximate median transaction duration.
+     * @return duration in milliseconds
+     */
+    long getTransaction50thPercentileMillis();
+    /**
+     * Gets the approximate 95th percentile transaction duration.
+     * @return duration in milliseconds
+     */
+    long getTransaction95thPercentileMillis();
+    /**
+     * Gets the approximate 99th percentile transaction duration.
+     * @return duration in milliseconds
+     */
+    long getTransaction99thPercentileMillis();
+    /**
+     * Gets the longest transaction duration.
+     * @return duration in milliseconds
+     */
+    long getTransactionMaxMillis();
+    /**
+     * Gets the number of retries of writes that failed for transient
+     * reasons.
+     * @return retry count
+     */
+    long getRetryCount();
+
+    /**
+     * Gets the number of document content bytes (UTF-8) committed to
+     * Neo4j. Content written to the content store with the external
+     * content mode is not sent to Neo4j, and is not counted.
+     * @return content bytes
+     */
+    long getContentBytesSent();
+
+    /**
+     * Gets the number of statements spooled and not yet written to Neo4j,
+     * when spooling writes.
+     * @return spool depth
+     */
+    int getSpoolDepth();
+
+    /**
+     * Gets the number of pooled connections currently in use.
+     * @return connections in use
+     */
+    int getPoolConnectionsInUse();
+    /**
+     * Gets the number of pooled connections currently idle.
+     * @return idle connections
+     */
+    int getPoolConnectionsIdle();
+    /**
+     * Gets the number of threads currently waiting for a pooled
+     * connection.
+     * @return threads acquiring connections
+     */
+    int getPoolConnectionsAcquiring();
+    /**
+     * Gets the number of times a pooled connection could not be
+     * acquired in time.
+     * @return timed out acquisitions
+     */
+    long getPoolAcquisitionTimeouts();
+}
@@ -0,0 +1,348 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Config.ConfigBuilder;
+
+import com.norconex.commons.lang.xml.XML;
+
+/**
+ * <p>
+ * Neo4j driver connection settings. Settings left unset
+ * ({@code null}) use the Neo4j driver defaults.
+ * Durations are in milliseconds.
+ * </p>
+ */
+public class Neo4jDriverSettings implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Which certificates are trusted for encrypted connections.
+     */
+    public enum TrustStrategy {
+        /** Certificates signed by a system trusted authority. */
+        SYSTEM,
+        /** All certificates (e.g., self-signed). */
+        ALL
+    }
+
+    /** Maximum number of connections in the pool. */
+    private Integer maxConnectionPoolSize;
+    /** Maximum time to wait for a connection from the pool. */
+    private Long connectionAcquisitionTimeout;
+    /** Maximum time to wait for a new connection to be established. */
+    private Long connectionTimeout;
+    /** Maximum age of pooled connections. */
+    private Long maxConnectionLifetime;
+    /** Idle time after which pooled connections are tested. */
+    private Long connectionLivenessCheckTimeout;
+    /** Number of records fetched per batch when reading results. */
+    private Long fetchSize;
+    /** Whether connections are encrypted. */
+    private Boolean encrypted;
+    /** Which certificates are trusted for encrypted connections. */
+    private TrustStrategy trustStrategy;
+    /** How long unused routing tables are kept. */
+    private Long routingTablePurgeDelay;
+    /** Maximum time managed transactions are retried. */
+    private Long maxTransactionRetryTime;
+
+    /**
+     * Gets the maximum number of connections in the pool.
+     * @return maximum pool size
+     */
+    public Integer getMaxConnectionPoolSize() {
+        return maxConnectionPoolSize;
+    }
+    /**
+     * Sets the maximum number of connections in the pool. Make sure it is
+     * at least equal to the committer "parallelism" (or to
+     * "maxInFlightTransactions" with the asynchronous engine).
+     * @param maxConnectionPoolSize maximum pool size
+     */
+    public void setMaxConnectionPoolSize(Integer maxConnectionPoolSize) {
+        this.maxConnectionPoolSize = maxConnectionPoolSize;
+    }
+
+    /**
+     * Gets the maximum time to wait for a connection from the pool.
+     * @return timeout in milliseconds
+     */
+    public Long getConnectionAcquisitionTimeout() {
+        return connectionAcquisitionTimeout;
+    }
+    /**
+     * Sets the maximum time to wait for a connection from the pool.
+     * @param connectionAcquisitionTimeout timeout in milliseconds
+     */
+    public void setConnectionAcquisitionTimeout(
+            Long connectionAcquisitionTimeout) {
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+    }
+
+    /**
+     * Gets the maximum time to wait for a new connection to be established.
+     * @return timeout in milliseconds
+     */
+    public Long getConnectionTimeout() {
+        return connectionTimeout;
+    }
+    /**
+     * Sets the maximum time to wait for a new connection to be established.
+     * @param connectionTimeout timeout in milliseconds
+     */
+    public void setConnectionTimeout(Long connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    /**
+     * Gets the maximum age of pooled connections.
+     * @return lifetime in milliseconds
+     */
+    public Long getMaxConnectionLifetime() {
+        return maxConnectionLifetime;
+    }
+    /**
+     * Sets the maximum age of pooled connections. Older connections
+     * are closed instead of being reused. Set it lower than any
+     * network equipment idle timeout between the committer and Neo4j.
+     * @param maxConnectionLifetime lifetime in milliseconds
+     */
+    public void setMaxConnectionLifetime(Long maxConnectionLifetime) {
+        this.maxConnectionLifetime = maxConnectionLifetime;
+    }
+
+    /**
+     * Gets the idle time after which pooled connections are tested
+     * before being reused.
+     * @return idle time in milliseconds
+     */
+    public Long getConnectionLivenessCheckTimeout() {
+        return connectionLivenessCheckTimeout;
+    }
+    /**
+     * Sets the idle time after which pooled connections are tested
+     * before being reused. Zero tests them every time. By default,
+     * connections are not tested.
+     * @param connectionLivenessCheckTimeout idle time in milliseconds
+     */
+    public void setConnectionLivenessCheckTimeout(
+            Long connectionLivenessCheckTimeout) {
+        this.connectionLivenessCheckTimeout = connectionLivenessCheckTimeout;
+    }
+
+    /**
+     * Gets the number of records fetched per batch when reading results.
+     * @return fetch size
+     */
+    public Long getFetchSize() {
+        return fetchSize;
+    }
+    /**
+     * Sets the number of records fetched per batch when reading results.
+     * Use -1 to fetch all records at once.
+     * @param fetchSize fetch size
+     */
+    public void setFetchSize(Long fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Gets whether connections are encrypted.
+     * @return {@code true} if encrypted
+     */
+    public Boolean getEncrypted() {
+        return encrypted;
+    }
+    /**
+     * Sets whether connections are encrypted. Do not set when the
+     * connection URI already specifies it (e.g., "neo4j+s://").
+     * @param encrypted {@code true} if encrypted
+     */
+    public void setEncrypted(Boolean encrypted) {
+        this.encrypted = encrypted;
+    }
+
+    /**
+     * Gets which certificates are trusted for encrypted connections.
+     * @return trust strategy
+     */
+    public TrustStrategy getTrustStrategy() {
+        return trustStrategy;
+    }
+    /**
+     * Sets which certificates are trusted for encrypted connections.
+     * Do not set when the connection URI already specifies it
+     * (e.g., "neo4j+ssc://").
+     * @param trustStrategy trust strategy
+     */
+    public void setTrustStrategy(TrustStrategy trustStrategy) {
+        this.trustStrategy = trustStrategy;
+    }
+
+    /**
+     * Gets how long unused routing tables are kept.
+     * @return delay in milliseconds
+     */
+    public Long getRoutingTablePurgeDelay() {
+        return routingTablePurgeDelay;
+    }
+    /**
+     * Sets how long unused routing tables are kept, with "neo4j" URI
+     * schemes. Routing tables are otherwise refreshed when they expire
+     * (as set on the cluster) or when a cluster member is unreachable.
+     * @param routingTablePurgeDelay delay in milliseconds
+     */
+    public void setRoutingTablePurgeDelay(Long routingTablePurgeDelay) {
+        this.routingTablePurgeDelay = routingTablePurgeDelay;
+    }
+
+    /**
+     * Gets the maximum time managed transactions are retried.
+     * @return retry time in milliseconds
+     */
+    public Long getMaxTransactionRetryTime() {
+        return maxTransactionRetryTime;
+    }
+    /**
+     * Sets the maximum time managed transactions are retried by the
+     * driver on transient failures, such as a cluster leader change.
+     * Failures lasting longer are left to the committer
+     * "maxTransientRetries". When not set and "maxTransientRetries" is
+     * greater than zero, the driver does not retry, as each committer
+     * retry would otherwise be multiplied by those of the driver.
+     * @param maxTransactionRetryTime retry time in milliseconds
+     */
+    public void setMaxTransactionRetryTime(Long maxTransactionRetryTime) {
+        this.maxTransactionRetryTime = maxTransactionRetryTime;
+    }
+
+    /**
+     * Creates a Neo4j driver configuration from these settings.
+     * @param driverMetrics whether to enable driver metrics
+     * @param committerRetries whether the committer retries transient
+     *     failures itself
+     * @return driver configuration
+     */
+    Config toDriverConfig(boolean driverMetrics, boolean committerRetries) {
+        ConfigBuilder b = Config.builder();
+        if (driverMetrics) {
+            b.withDriverMetrics();
+        }
+        if (maxConnectionPoolSize != null) {
+            b.withMaxConnectionPoolSize(maxConnectionPoolSize);
+        }
+        if (connectionAcquisitionTimeout != null) {
+            b.withConnectionAcquisitionTimeout(
+                    connectionAcquisitionTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (connectionTimeout != null) {
+            b.withConnectionTimeout(
+                    connectionTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (maxConnectionLifetime != null) {
+            b.withMaxConnectionLifetime(
+                    maxConnectionLifetime, TimeUnit.MILLISECONDS);
+        }
+        if (connectionLivenessCheckTimeout != null) {
+            b.withConnectionLivenessCheckTimeout(
+                    connectionLivenessCheckTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (fetchSize != null) {
+            b.withFetchSize(fetchSize);
+        }
+        if (Boolean.TRUE.equals(encrypted)) {
+            b.withEncryption();
+        } else if (Boolean.FALSE.equals(encrypted)) {
+            b.withoutEncryption();
+        }
+        if (trustStrategy == TrustStrategy.ALL) {
+            b.withTrustStrategy(Config.TrustStrategy.trustAllCertificates());
+        } else if (trustStrategy == TrustStrategy.SYSTEM) {
+            b.withTrustStrategy(
+                    Config.TrustStrategy.trustSystemCertificates());
+        }
+        if (routingTablePurgeDelay != null) {
+            b.withRoutingTablePurgeDelay(
+                    routingTablePurgeDelay, TimeUnit.MILLISECONDS);
+        }
+        if (maxTransactionRetryTime != null) {
+            b.withMaxTransactionRetryTime(
+                    maxTransactionRetryTime, TimeUnit.MILLISECONDS);
+        } else if (committerRetries) {
+            b.withMaxTransactionRetryTime(0, TimeUnit.MILLISECONDS);
+        }
+        return b.build();
+    }
+
+    void saveToXML(XML xml) {
+        xml.addElement("maxConnectionPoolSize", maxConnectionPoolSize);
+        xml.addElement(
+                "connectionAcquisitionTimeout", connectionAcquisitionTimeout);
+        xml.addElement("connectionTimeout", connectionTimeout);
+        xml.addElement("maxConnectionLifetime", maxConnectionLifetime);
+        xml.addElement("connectionLivenessCheckTimeout",
+                connectionLivenessCheckTimeout);
+        xml.addElement("fetchSize", fetchSize);
+        xml.addElement("encrypted", encrypted);
+        xml.addElement("trustStrategy", trustStrategy);
+        xml.addElement("routingTablePurgeDelay", routingTablePurgeDelay);
+        xml.addElement("maxTransactionRetryTime", maxTransactionRetryTime);
+    }
+    void loadFromXML(XML xml) {
+        setMaxConnectionPoolSize(xml.getInteger(
+                "maxConnectionPoolSize", maxConnectionPoolSize));
+        setConnectionAcquisitionTimeout(xml.getDurationMillis(
+                "connectionAcquisitionTimeout", connectionAcquisitionTimeout));
+        setConnectionTimeout(xml.getDurationMillis(
+                "connectionTimeout", connectionTimeout));
+        setMaxConnectionLifetime(xml.getDurationMillis(
+                "maxConnectionLifetime", maxConnectionLifetime));
+        setConnectionLivenessCheckTimeout(xml.getDurationMillis(
+                "connectionLivenessCheckTimeout",
+                connectionLivenessCheckTimeout));
+        setFetchSize(xml.getLong("fetchSize", fetchSize));
+        setEncrypted(xml.getBoolean("encrypted", encrypted));
+        setTrustStrategy(xml.getEnum(
+                "trustStrategy", TrustStrategy.class, trustStrategy));
+        setRoutingTablePurgeDelay(xml.getDurationMillis(
+                "routingTablePurgeDelay", routingTablePurgeDelay));
+        setMaxTransactionRetryTime(xml.getDurationMillis(
+                "maxTransactionRetryTime", maxTransactionRetryTime));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return EqualsBuilder.reflectionEquals(this, other);
+    }
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+    @Override
+    public String toString() {
+        return new ReflectionToStringBuilder(
+                this, ToStringStyle.SHORT_PREFIX_STYLE).toString();
+    }
+}
@@ -0,0 +1,140 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.neo4j.driver.internal.value.NullValue;
+
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.FieldType;
+import com.norconex.commons.lang.map.Properties;
+
+/**
+ * <p>
+ * Describes how document fields are converted to the parameters of
+ * a Cypher statement. Created once per statement, it only retains
+ * parameters actually referenced by the statement so that other
+ * fields are never converted nor sent to Neo4j. Optional parameters
+ * referenced by the statement are pre-set to {@link NullValue}, and
+ * fields with a configured type are converted to that type.
+ * </p>
+ */
+class ParameterPlan {
+
+    private final Set<String> parameterNames;
+    private final Map<String, Object> defaults = new HashMap<>();
+    private final Map<String, FieldType> fieldTypes = new HashMap<>();
+    private final String multiValuesJoiner;
+
+    ParameterPlan(String cypher, Neo4jCommitterConfig config) {
+        this.parameterNames =
+                Collections.unmodifiableSet(CypherUtil.parameterNames(cypher));
+        this.multiValuesJoiner = StringUtils.isNotBlank(
+                config.getMultiValuesJoiner())
+                        ? config.getMultiValuesJoiner() : null;
+        config.getOptionalParameters().forEach(param -> {
+            if (parameterNames.contains(param)) {
+                defaults.put(param, NullValue.NULL);
+            }
+        });
+        config.getFieldTypes().forEach((field, type) -> {
+            if (parameterNames.contains(field)) {
+                fieldTypes.put(field, type);
+            }
+        });
+    }
+
+    /**
+     * Gets whether a parameter is referenced by the statement.
+     * @param name parameter name
+     * @return {@code true} if referenced
+     */
+    boolean isReferenced(String name) {
+        return name != null && parameterNames.contains(name);
+    }
+
+    /**
+     * Gets the names of parameters referenced by the statement.
+     * @return parameter names
+     */
+    Set<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * Converts document metadata fields referenced by the statement
+     * to parameters.
+     * @param meta document metadata
+     * @return statement parameters (modifiable)
+     */
+    Map<String, Object> toParameters(Properties meta) {
+        Map<String, Object> params = new HashMap<>(defaults);
+        for (String name : parameterNames) {
+            List<String> values = meta.get(name);
+            if (values != null) {
+                params.put(name, toValue(name, values));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Sets a single-value parameter if it is referenced by the statement,
+     * converted the same way as metadata fields.
+     * @param params statement parameters
+     * @param name parameter name
+     * @param value parameter value
+     */
+    void putValue(Map<String, Object> params, String name, String value) {
+        if (isReferenced(name)) {
+            params.put(name, toValue(name, value));
+        }
+    }
+
+    /**
+     * Converts a single value the same way as metadata fields.
+     * @param name parameter name
+     * @param value parameter value
+     * @return converted value
+     */
+    Object toValue(String name, String value) {
+        return toValue(name, Collections.singletonList(value));
+    }
+
+    private Object toValue(String name, List<String> values) {
+        FieldType type = fieldTypes.get(name);
+        if (type != null) {
+            return FieldTypeConverter.convert(
+                    name, type, values, multiValuesJoiner);
+        }
+        if (multiValuesJoiner != null) {
+            return StringUtils.join(values, multiValuesJoiner);
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return new ReflectionToStringBuilder(
+                this, ToStringStyle.SHORT_PREFIX_STYLE).toString();
+    }
+}
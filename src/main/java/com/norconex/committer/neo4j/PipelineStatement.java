@@ -0,0 +1,226 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.norconex.commons.lang.map.Properties;
+import com.norconex.commons.lang.xml.XML;
+
+/**
+ * <p>
+ * A named Cypher statement executed for upsert or delete requests,
+ * after the "upsertCypher" or "deleteCypher" and the statements
+ * defined before it. A statement can be restricted to documents having
+ * a given field, optionally with a value matching a regular expression.
+ * Like other queries, it is only sent the document fields it references
+ * as parameters.
+ * </p>
+ */
+public class PipelineStatement implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Which requests a statement is executed for.
+     */
+    public enum RequestType {
+        /** Upsert requests. */
+        UPSERT,
+        /** Delete requests. */
+        DELETE
+    }
+
+    /** Statement name, for logging. */
+    private String name;
+    /** Which requests the statement is executed for. */
+    private RequestType requestType = RequestType.UPSERT;
+    /** Cypher statement. */
+    private String cypher;
+    /** Field documents must have for the statement to execute. */
+    private String conditionField;
+    /** Regular expression one of the condition field values must match. */
+    private String conditionRegex;
+    // Compiled condition regex, cached
+    private transient Pattern conditionPattern;
+
+    /** Creates an empty statement. */
+    public PipelineStatement() {
+        super();
+    }
+    /**
+     * Creates a statement executed for all requests of a type.
+     * @param name statement name
+     * @param requestType which requests the statement is executed for
+     * @param cypher Cypher statement
+     */
+    public PipelineStatement(
+            String name, RequestType requestType, String cypher) {
+        this.name = name;
+        this.requestType = requestType;
+        this.cypher = cypher;
+    }
+
+    /**
+     * Gets the statement name.
+     * @return statement name
+     */
+    public String getName() {
+        return name;
+    }
+    /**
+     * Sets the statement name, used for logging.
+     * @param name statement name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets which requests the statement is executed for.
+     * @return request type
+     */
+    public RequestType getRequestType() {
+        return requestType;
+    }
+    /**
+     * Sets which requests the statement is executed for.
+     * Default is {@link RequestType#UPSERT}.
+     * @param requestType request type
+     */
+    public void setRequestType(RequestType requestType) {
+        this.requestType = requestType;
+    }
+
+    /**
+     * Gets the Cypher statement.
+     * @return Cypher
+     */
+    public String getCypher() {
+        return cypher;
+    }
+    /**
+     * Sets the Cypher statement.
+     * @param cypher Cypher
+     */
+    public void setCypher(String cypher) {
+        this.cypher = cypher;
+    }
+
+    /**
+     * Gets the field documents must have for the statement to execute.
+     * @return field name, or {@code null} if unconditional
+     */
+    public String getConditionField() {
+        return conditionField;
+    }
+    /**
+     * Sets the field documents must have for the statement to execute.
+     * @param conditionField field name, or {@code null} if unconditional
+     */
+    public void setConditionField(String conditionField) {
+        this.conditionField = conditionField;
+    }
+
+    /**
+     * Gets the regular expression one of the condition field values
+     * must match for the statement to execute.
+     * @return regular expression, or {@code null} if any value matches
+     */
+    public String getConditionRegex() {
+        return conditionRegex;
+    }
+    /**
+     * Sets the regular expression one of the condition field values
+     * must match (entirely) for the statement to execute. Ignored without
+     * a condition field.
+     * @param conditionRegex regular expression, or {@code null} if any
+     *     value matches
+     */
+    public void setConditionRegex(String conditionRegex) {
+        this.conditionRegex = conditionRegex;
+        this.conditionPattern = null;
+    }
+
+    /**
+     * Gets whether a document satisfies the statement condition.
+     * @param meta document metadata
+     * @return {@code true} if the statement should be executed
+     */
+    boolean matches(Properties meta) {
+        if (StringUtils.isBlank(conditionField)) {
+            return true;
+        }
+        List<String> values = meta == null ? null : meta.get(conditionField);
+        if (values == null || values.isEmpty()) {
+            return false;
+        }
+        if (conditionRegex == null) {
+            return true;
+        }
+        Pattern pattern = conditionPattern;
+        if (pattern == null) {
+            pattern = Pattern.compile(conditionRegex);
+            conditionPattern = pattern;
+        }
+        for (String value : values) {
+            if (value != null && pattern.matcher(value).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void saveToXML(XML xml) {
+        xml.setAttribute("name", name);
+        xml.setAttribute("requestType", requestType);
+        if (StringUtils.isNotBlank(conditionField)) {
+            xml.addElement("condition")
+                    .setAttribute("field", conditionField)
+                    .setAttribute("regex", conditionRegex);
+        }
+        xml.addElement("cypher", cypher);
+    }
+    void loadFromXML(XML xml) {
+        setName(xml.getString("@name", name));
+        setRequestType(xml.getEnum(
+                "@requestType", RequestType.class, requestType));
+        setConditionField(xml.getString("condition/@field", conditionField));
+        setConditionRegex(xml.getString("condition/@regex", conditionRegex));
+        setCypher(xml.getString("cypher", cypher));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return EqualsBuilder.reflectionEquals(this, other);
+    }
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+    @Override
+    public String toString() {
+        return new ReflectionToStringBuilder(
+                this, ToStringStyle.SHORT_PREFIX_STYLE).toString();
+    }
+}
@@ -0,0 +1,131 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.lang3.StringUtils;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.summary.Notification;
+import org.neo4j.driver.summary.Plan;
+import org.neo4j.driver.summary.ResultSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.core3.CommitterException;
+
+/**
+ * <p>
+ * Has Neo4j plan (EXPLAIN) Cypher statements, exactly as they will be
+ * sent, without executing them. Statements Neo4j rejects fail
+ * validation. Parameters are not checked, as they can come from any
+ * document field.
+ * Plans containing operators known to be costly when repeated for every
+ * document are logged as warnings, as are Neo4j notifications.
+ * Planned statements are also cached by Neo4j, sparing the first batch
+ * the planning cost.
+ * </p>
+ */
+class QueryValidator {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(QueryValidator.class);
+
+    // Operators worth a warning, without the runtime suffix (e.g., @neo4j)
+    static final List<String> COSTLY_OPERATORS = Collections.unmodifiableList(
+            Arrays.asList("Eager", "AllNodesScan", "NodeByLabelScan"));
+
+    private final Map<String, String> cyphers;
+
+    /**
+     * Creates a validator for Cypher statements.
+     * @param cyphers Cypher statements keyed by name, for logging
+     */
+    QueryValidator(Map<String, String> cyphers) {
+        this.cyphers = cyphers;
+    }
+
+    /**
+     * Plans all statements.
+     * @param session Neo4j session
+     * @throws CommitterException a statement is invalid or could not
+     *     be planned
+     */
+    void validate(Session session) throws CommitterException {
+        for (Entry<String, String> en : cyphers.entrySet()) {
+            validate(session, en.getKey(), en.getValue());
+        }
+        LOG.info("Validated {} Cypher statement(s).", cyphers.size());
+    }
+
+    private void validate(Session session, String name, String cypher)
+            throws CommitterException {
+        // Planning only depends on parameter names, not values
+        Map<String, Object> params = new HashMap<>();
+        CypherUtil.parameterNames(cypher).forEach(p -> params.put(p, null));
+        ResultSummary summary;
+        try {
+            summary = session.run("EXPLAIN " + cypher, params).consume();
+        } catch (ClientException e) {
+            throw new CommitterException(
+                    "Invalid \"" + name + "\" Cypher: " + e.getMessage(), e);
+        } catch (Neo4jException e) {
+            throw new CommitterException(
+                    "Could not validate \"" + name + "\" Cypher.", e);
+        }
+        for (Notification n : summary.notifications()) {
+            LOG.warn("\"{}\" Cypher: {} {}", name, n.title(), n.description());
+        }
+        if (summary.hasPlan()) {
+            Set<String> costly = findCostlyOperators(summary.plan());
+            if (!costly.isEmpty()) {
+                LOG.warn("\"{}\" Cypher plan contains {} operator(s). "
+                        + "Consider indexing node ID properties "
+                        + "(see \"createNodeIdConstraints\") or "
+                        + "simplifying it.", name, costly);
+            }
+        }
+        LOG.debug("Validated \"{}\" Cypher.", name);
+    }
+
+    /**
+     * Finds costly operators anywhere in a plan.
+     * @param plan execution plan
+     * @return costly operator names (never {@code null})
+     */
+    static Set<String> findCostlyOperators(Plan plan) {
+        Set<String> found = new TreeSet<>();
+        findCostlyOperators(plan, found);
+        return found;
+    }
+    private static void findCostlyOperators(Plan plan, Set<String> found) {
+        String op = StringUtils.substringBefore(plan.operatorType(), "@");
+        if (COSTLY_OPERATORS.contains(op)) {
+            found.add(op);
+        }
+        for (Plan child : plan.children()) {
+            findCostlyOperators(child, found);
+        }
+    }
+}
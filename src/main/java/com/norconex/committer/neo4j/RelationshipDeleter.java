@@ -0,0 +1,132 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.neo4j.CypherStatement.Query;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.DeleteStrategy;
+
+/**
+ * <p>
+ * Statements deleting the relationships of a node about to be deleted,
+ * at most "deleteChunkSize" per transaction, so that deleting nodes
+ * with many relationships never requires a single large transaction.
+ * Nodes are looked up by their node ID property, for each label resolved
+ * for node ID constraints (see {@link ConstraintInitializer}).
+ * </p>
+ * <p>
+ * With {@link DeleteStrategy#CHUNKED}, each statement deletes up to
+ * "deleteChunkSize" relationships in its own transaction, and must be
+ * repeated until fewer are deleted. With
+ * {@link DeleteStrategy#IN_TRANSACTIONS}, each statement deletes all
+ * relationships in transactions of "deleteChunkSize" relationships
+ * ({@code CALL {} IN TRANSACTIONS}, Neo4j 4.4+), and must be run in an
+ * auto-commit transaction.
+ * </p>
+ */
+class RelationshipDeleter {
+
+    private final String idParam;
+    private final ParameterPlan idPlan;
+    private final int chunkSize;
+    private final boolean inTransactions;
+    // Cypher statements keyed by label
+    private final Map<String, String> cyphers = new LinkedHashMap<>();
+
+    RelationshipDeleter(Neo4jCommitterConfig config)
+            throws CommitterException {
+        Map<String, String> constraints =
+                new ConstraintInitializer(config).resolveConstraints();
+        if (constraints.isEmpty()) {
+            throw new CommitterException("Could not resolve any node label "
+                    + "to delete relationships from. Set \"nodeIdLabels\" "
+                    + "explicitly.");
+        }
+        this.idParam = config.getNodeIdProperty();
+        // IDs are converted like the node ID parameter of other statements
+        this.idPlan = new ParameterPlan(
+                "$" + CypherUtil.escapeName(idParam), config);
+        this.chunkSize = Math.max(1, config.getDeleteChunkSize());
+        this.inTransactions =
+                config.getDeleteStrategy() == DeleteStrategy.IN_TRANSACTIONS;
+        for (Entry<String, String> en : constraints.entrySet()) {
+            String match = "MATCH (:" + CypherUtil.escapeName(en.getKey())
+                    + " { " + CypherUtil.escapeName(en.getValue()) + ": $"
+                    + CypherUtil.escapeName(idParam) + " })-[r]-()\n";
+            if (inTransactions) {
+                cyphers.put(en.getKey(), match
+                        + "WITH DISTINCT r\n"
+                        + "CALL { WITH r DELETE r } "
+                        + "IN TRANSACTIONS OF " + chunkSize + " ROWS");
+            } else {
+                cyphers.put(en.getKey(), match
+                        + "WITH DISTINCT r LIMIT " + chunkSize + "\n"
+                        + "DELETE r");
+            }
+        }
+    }
+
+    /**
+     * Gets the statements deleting relationships, keyed by name.
+     * @return Cypher statements
+     */
+    Map<String, String> getCyphers() {
+        Map<String, String> named = new LinkedHashMap<>();
+        cyphers.forEach((label, cypher) ->
+                named.put("relationship deletes (" + label + ")", cypher));
+        return named;
+    }
+
+    /**
+     * Gets the maximum number of relationships deleted per transaction.
+     * @return chunk size
+     */
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Gets whether statements delete all relationships in transactions
+     * of their own, and must be run in an auto-commit transaction.
+     * Otherwise, they must be repeated until fewer than "chunk size"
+     * relationships are deleted.
+     * @return {@code true} if using {@code CALL {} IN TRANSACTIONS}
+     */
+    boolean isInTransactions() {
+        return inTransactions;
+    }
+
+    /**
+     * Creates the queries deleting the relationships of a node.
+     * @param reference node reference
+     * @return queries
+     */
+    List<Query> toQueries(String reference) {
+        Map<String, Object> params = Collections.singletonMap(
+                idParam, idPlan.toValue(idParam, reference));
+        List<Query> queries = new ArrayList<>(cyphers.size());
+        for (String cypher : cyphers.values()) {
+            queries.add(new Query(0, cypher, params));
+        }
+        return queries;
+    }
+}
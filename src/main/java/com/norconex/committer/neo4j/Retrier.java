@@ -0,0 +1,118 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.exceptions.SessionExpiredException;
+import org.neo4j.driver.exceptions.TransientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.core3.CommitterException;
+
+/**
+ * <p>
+ * Retries Neo4j operations failing for transient reasons (e.g.,
+ * deadlocks, cluster leader switches, unavailable servers), waiting
+ * between each attempt for an exponentially growing, jittered delay.
+ * </p>
+ */
+class Retrier {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Retrier.class);
+
+    private final int maxRetries;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final Runnable retryListener;
+
+    Retrier(int maxRetries, long retryDelay, long maxRetryDelay) {
+        this(maxRetries, retryDelay, maxRetryDelay, () -> {});
+    }
+    Retrier(int maxRetries, long retryDelay, long maxRetryDelay,
+            Runnable retryListener) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryDelay = Math.max(0, retryDelay);
+        this.maxRetryDelay = Math.max(this.retryDelay, maxRetryDelay);
+        this.retryListener = retryListener;
+    }
+
+    /**
+     * Runs an operation, retrying it on transient failures.
+     * @param operation the operation to run
+     * @throws CommitterException interrupted while waiting to retry
+     * @throws Neo4jException non-transient failure, or transient failure
+     *     after all retries were attempted
+     */
+    void run(Runnable operation) throws CommitterException {
+        int attempt = 0;
+        while (true) {
+            try {
+                operation.run();
+                return;
+            } catch (Neo4jException e) {
+                if (!isTransient(e) || attempt >= maxRetries) {
+                    throw e;
+                }
+                long delay = delay(attempt);
+                attempt++;
+                LOG.warn("Transient Neo4j failure, retrying in {}ms "
+                        + "(attempt {} of {}): {}",
+                        delay, attempt, maxRetries, e.getMessage());
+                sleep(delay);
+                retryListener.run();
+            }
+        }
+    }
+
+    // Exponential delay, randomized between half and full value so
+    // concurrent writers do not retry in lockstep.
+    private long delay(int attempt) {
+        long delay = retryDelay;
+        for (int i = 0; i < attempt && delay < maxRetryDelay; i++) {
+            delay *= 2;
+        }
+        delay = Math.min(delay, maxRetryDelay);
+        if (delay <= 1) {
+            return delay;
+        }
+        return ThreadLocalRandom.current().nextLong(delay / 2, delay + 1);
+    }
+
+    private static void sleep(long millis) throws CommitterException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterException(
+                    "Interrupted while waiting to retry.", e);
+        }
+    }
+
+    /**
+     * Gets whether an exception is caused by a transient condition
+     * such that retrying the same operation may succeed.
+     * @param e the exception
+     * @return {@code true} if transient
+     */
+    static boolean isTransient(Throwable e) {
+        return e instanceof TransientException
+                || e instanceof ServiceUnavailableException
+                || e instanceof SessionExpiredException;
+    }
+}
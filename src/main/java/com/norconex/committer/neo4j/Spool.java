@@ -0,0 +1,276 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.neo4j.driver.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.neo4j.CypherStatement.Query;
+
+/**
+ * <p>
+ * Local append-only spool of statements waiting to be written to Neo4j,
+ * persisted between committer sessions. Statements are kept in the
+ * order they were appended, and are only removed once written.
+ * Appending or removing statements returns once changes are written
+ * to disk.
+ * </p>
+ * <p>
+ * Statements are spooled with their queries, checksum and link targets,
+ * but without chunked content. Statements that cannot be written are
+ * moved to a separate "quarantine" map of the same file, for inspection.
+ * </p>
+ */
+class Spool implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Spool.class);
+
+    static final String FILE_NAME = "neo4j-spool.mv";
+
+    private final MVStore store;
+    private final MVMap<Long, byte[]> statements;
+    private final MVMap<Long, byte[]> quarantined;
+    private long nextKey;
+    // Kept apart from the map so it can be read once closed
+    private volatile int depth;
+
+    /**
+     * Opens a spool.
+     * @param file spool file
+     */
+    Spool(Path file) {
+        store = new MVStore.Builder()
+                .fileName(file.toAbsolutePath().toString())
+                .compress()
+                .open();
+        statements = store.openMap("statements");
+        quarantined = store.openMap("quarantine");
+        Long lastKey = statements.lastKey();
+        Long lastQuarantined = quarantined.lastKey();
+        if (lastQuarantined != null
+                && (lastKey == null || lastQuarantined > lastKey)) {
+            lastKey = lastQuarantined;
+        }
+        nextKey = lastKey == null ? 0 : lastKey + 1;
+        depth = statements.size();
+        LOG.info("Spool opened with {} statement(s) and {} quarantined "
+                + "statement(s): {}", depth, quarantined.size(), file);
+    }
+
+    /**
+     * Appends statements.
+     * @param stmts statements
+     * @throws IOException a statement could not be serialized
+     */
+    void append(List<CypherStatement> stmts) throws IOException {
+        if (stmts.isEmpty()) {
+            return;
+        }
+        List<byte[]> values = new ArrayList<>(stmts.size());
+        for (CypherStatement stmt : stmts) {
+            values.add(toBytes(stmt));
+        }
+        synchronized (this) {
+            for (byte[] value : values) {
+                statements.put(nextKey++, value);
+            }
+            commit();
+        }
+    }
+
+    /**
+     * Gets the oldest statements, without removing them. Statements that
+     * cannot be read back are logged and removed.
+     * @param max maximum number of statements
+     * @return statements keyed by spool position, in order
+     */
+    synchronized SortedMap<Long, CypherStatement> peek(int max) {
+        SortedMap<Long, CypherStatement> stmts = new TreeMap<>();
+        List<Long> invalid = new ArrayList<>();
+        for (Entry<Long, byte[]> en : statements.entrySet()) {
+            if (stmts.size() >= max) {
+                break;
+            }
+            try {
+                stmts.put(en.getKey(), fromBytes(en.getValue()));
+            } catch (IOException e) {
+                LOG.error("Could not read spooled statement #{}. "
+                        + "It will be skipped.", en.getKey(), e);
+                invalid.add(en.getKey());
+            }
+        }
+        if (!invalid.isEmpty()) {
+            remove(invalid);
+        }
+        return stmts;
+    }
+
+    /**
+     * Removes written statements.
+     * @param keys spool positions of the statements
+     */
+    synchronized void remove(Collection<Long> keys) {
+        keys.forEach(statements::remove);
+        commit();
+    }
+
+    /**
+     * Moves a statement that cannot be written to quarantine.
+     * @param key spool position of the statement
+     */
+    synchronized void quarantine(Long key) {
+        byte[] value = statements.remove(key);
+        if (value != null) {
+            quarantined.put(key, value);
+        }
+        commit();
+    }
+
+    /**
+     * Gets the number of quarantined statements.
+     * @return quarantined statement count
+     */
+    synchronized int getQuarantinedCount() {
+        return quarantined.size();
+    }
+
+    /**
+     * Waits for the spool to hold fewer statements than a maximum,
+     * unless it already does.
+     * @param max maximum number of statements
+     * @param millis maximum time to wait, in milliseconds
+     * @return {@code true} if the spool holds fewer statements
+     * @throws InterruptedException interrupted while waiting
+     */
+    synchronized boolean awaitDepthBelow(int max, long millis)
+            throws InterruptedException {
+        if (depth >= max) {
+            wait(millis);
+        }
+        return depth < max;
+    }
+
+    /**
+     * Waits for the spool to hold statements, unless it already does.
+     * @param millis maximum time to wait, in milliseconds
+     * @return {@code true} if the spool holds statements
+     * @throws InterruptedException interrupted while waiting
+     */
+    synchronized boolean awaitStatements(long millis)
+            throws InterruptedException {
+        if (depth == 0) {
+            wait(millis);
+        }
+        return depth > 0;
+    }
+
+    /**
+     * Wakes up threads waiting on this spool, so they can check whether
+     * they should stop waiting.
+     */
+    synchronized void wakeUp() {
+        notifyAll();
+    }
+
+    /**
+     * Gets the number of spooled statements.
+     * @return spool depth
+     */
+    int size() {
+        return depth;
+    }
+
+    @Override
+    public synchronized void close() {
+        store.close();
+        LOG.info("Spool closed with {} statement(s).", depth);
+    }
+
+    // Called with the lock held
+    private void commit() {
+        store.commit();
+        store.sync();
+        depth = statements.size();
+        notifyAll();
+    }
+
+    static byte[] toBytes(CypherStatement stmt) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(stmt.getReference());
+            out.writeBoolean(stmt.isDelete());
+            out.writeObject(stmt.getChecksum());
+            out.writeObject(stmt.getLinks() == null
+                    ? null : new ArrayList<>(stmt.getLinks()));
+            out.writeInt(stmt.getQueries().size());
+            for (Query query : stmt.getQueries()) {
+                out.writeInt(query.getStep());
+                out.writeObject(query.getCypher());
+                // Neo4j values (e.g., null values) are not serializable
+                Map<String, Object> params = new HashMap<>();
+                query.getParameters().forEach((name, value) ->
+                        params.put(name, value instanceof Value
+                                ? ((Value) value).asObject() : value));
+                out.writeObject(params);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    static CypherStatement fromBytes(byte[] data) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(data))) {
+            String reference = (String) in.readObject();
+            boolean delete = in.readBoolean();
+            byte[] checksum = (byte[]) in.readObject();
+            List<String> links = (List<String>) in.readObject();
+            int count = in.readInt();
+            List<Query> queries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int step = in.readInt();
+                String cypher = (String) in.readObject();
+                queries.add(new Query(step, cypher,
+                        (Map<String, Object>) in.readObject()));
+            }
+            CypherStatement stmt =
+                    new CypherStatement(reference, delete, queries, null);
+            stmt.setChecksum(checksum);
+            stmt.setLinks(links);
+            return stmt;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Invalid spooled statement.", e);
+        }
+    }
+}
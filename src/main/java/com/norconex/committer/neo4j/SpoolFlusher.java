@@ -0,0 +1,247 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.core3.CommitterException;
+
+/**
+ * <p>
+ * Writes spooled statements to Neo4j from a background thread, oldest
+ * first, "spoolBatchSize" at a time. Statements are removed from the
+ * spool as soon as their transaction is committed. When writing fails,
+ * statements stay in the spool and writing is attempted again after
+ * "spoolRetryDelay". Statements are written at least once: those
+ * already committed in a failed batch are written again.
+ * </p>
+ * <p>
+ * Only failures caused by Neo4j availability (transient failures) have
+ * statements written again. When a batch fails for other reasons, its
+ * statements are written one by one, and those failing are moved to the
+ * spool quarantine, so they never hold back the others.
+ * </p>
+ * <p>
+ * On close, remaining statements are written from the calling thread,
+ * until the spool is empty or writing fails, in which case they are left
+ * for the next session.
+ * </p>
+ */
+class SpoolFlusher implements Closeable {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(SpoolFlusher.class);
+
+    // How long to wait for statements before checking if closing
+    private static final long IDLE_WAIT = TimeUnit.SECONDS.toMillis(1);
+
+    private final Neo4jClient client;
+    private final Spool spool;
+    private final int batchSize;
+    private final long retryDelay;
+    private final int maxDepth;
+    private final long maxWait;
+    private final CountDownLatch closing = new CountDownLatch(1);
+    private final Thread thread;
+
+    /**
+     * Creates a flusher and starts writing spooled statements. The spool
+     * is closed with this flusher.
+     * @param client Neo4j client
+     * @param spool spool to write statements from
+     * @param config committer configuration
+     */
+    SpoolFlusher(Neo4jClient client, Spool spool,
+            Neo4jCommitterConfig config) {
+        this.client = client;
+        this.spool = spool;
+        this.batchSize = Math.max(1, config.getSpoolBatchSize());
+        this.retryDelay = Math.max(0, config.getSpoolRetryDelay());
+        this.maxDepth = config.getSpoolMaxDepth();
+        this.maxWait = Math.max(0, config.getSpoolMaxWait());
+        this.thread = new BasicThreadFactory.Builder()
+                .namingPattern("neo4j-committer-spool")
+                .daemon(true)
+                .build()
+                .newThread(this::run);
+        thread.start();
+    }
+
+    private void run() {
+        try {
+            while (closing.getCount() > 0) {
+                if (spool.awaitStatements(IDLE_WAIT) && !flush()) {
+                    closing.await(retryDelay, TimeUnit.MILLISECONDS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOG.error("Spooled statements are no longer written.", e);
+        }
+    }
+
+    /**
+     * Checks that spooled statements are still being written, and waits
+     * for the spool to have room if it has a maximum depth.
+     * @throws CommitterException spooled statements are no longer
+     *     written, the spool is still full after "spoolMaxWait", or
+     *     interrupted while waiting
+     */
+    void awaitRoom() throws CommitterException {
+        checkRunning();
+        if (maxDepth <= 0 || spool.size() < maxDepth) {
+            return;
+        }
+        LOG.warn("Spool is full ({} statements). Waiting for spooled "
+                + "statements to be written.", spool.size());
+        long start = System.nanoTime();
+        try {
+            while (!spool.awaitDepthBelow(maxDepth, IDLE_WAIT)) {
+                checkRunning();
+                if (System.nanoTime() - start
+                        >= TimeUnit.MILLISECONDS.toNanos(maxWait)) {
+                    throw new CommitterException("Spool still full after "
+                            + maxWait + "ms (" + spool.size()
+                            + " statements). Is Neo4j available?");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterException(
+                    "Interrupted while waiting for room in spool.", e);
+        }
+    }
+    private void checkRunning() throws CommitterException {
+        if (!thread.isAlive()) {
+            throw new CommitterException(
+                    "Spooled statements are no longer written.");
+        }
+    }
+
+    /**
+     * Writes the oldest spooled statements, if any.
+     * @return {@code false} if statements could not be written
+     */
+    boolean flush() {
+        SortedMap<Long, CypherStatement> stmts = spool.peek(batchSize);
+        if (stmts.isEmpty()) {
+            return true;
+        }
+        try {
+            write(stmts);
+        } catch (CommitterException | RuntimeException e) {
+            if (!isStatementFailure(e)) {
+                LOG.error("Could not write spooled statements to Neo4j. "
+                        + "{} statement(s) remain spooled.",
+                        spool.size(), e);
+                return false;
+            }
+            LOG.warn("Could not write spooled statements together, "
+                    + "writing them one by one to isolate failures. "
+                    + "Cause: {}", e.getMessage());
+            return flushEach();
+        }
+        LOG.debug("Wrote {} spooled statement(s). {} remain spooled.",
+                stmts.size(), spool.size());
+        return true;
+    }
+
+    // Writes the oldest spooled statements one by one, quarantining
+    // those failing for reasons other than Neo4j availability
+    private boolean flushEach() {
+        for (Entry<Long, CypherStatement> en
+                : spool.peek(batchSize).entrySet()) {
+            try {
+                write(new TreeMap<>(Collections.singletonMap(
+                        en.getKey(), en.getValue())));
+            } catch (CommitterException | RuntimeException e) {
+                if (!isStatementFailure(e)) {
+                    LOG.error("Could not write spooled statements to "
+                            + "Neo4j. {} statement(s) remain spooled.",
+                            spool.size(), e);
+                    return false;
+                }
+                LOG.error("Could not write spooled statement for \"{}\". "
+                        + "It is moved to quarantine.",
+                        en.getValue().getReference(), e);
+                spool.quarantine(en.getKey());
+                client.getMetrics().requestSkipped();
+            }
+        }
+        return true;
+    }
+
+    // Removes statements from the spool as they are written
+    private void write(SortedMap<Long, CypherStatement> stmts)
+            throws CommitterException {
+        Map<CypherStatement, Long> keys = new IdentityHashMap<>();
+        stmts.forEach((key, stmt) -> keys.put(stmt, key));
+        client.postStatements(new ArrayList<>(stmts.values()), written -> {
+            List<Long> writtenKeys = new ArrayList<>();
+            written.forEach(s -> writtenKeys.add(keys.get(s)));
+            spool.remove(writtenKeys);
+        });
+    }
+
+    // Whether a failure was caused by Neo4j rejecting statements, as
+    // opposed to Neo4j being unavailable
+    static boolean isStatementFailure(Throwable e) {
+        boolean rejected = false;
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (Retrier.isTransient(t)) {
+                return false;
+            }
+            rejected |= t instanceof Neo4jException;
+        }
+        return rejected;
+    }
+
+    @Override
+    public void close() {
+        closing.countDown();
+        spool.wakeUp();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean flushed = !Thread.currentThread().isInterrupted();
+        while (flushed && spool.size() > 0) {
+            flushed = flush();
+        }
+        if (spool.size() > 0) {
+            LOG.warn("{} statement(s) remain spooled. They will be "
+                    + "written next time the committer is initialized.",
+                    spool.size());
+        }
+        spool.close();
+    }
+}
@@ -0,0 +1,156 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.norconex.committer.neo4j.CypherStatement.Query;
+
+/**
+ * <p>
+ * Decides how many statements are sent in each transaction. A
+ * transaction is full once it reaches either the current target number
+ * of statements or the maximum estimated size of their parameters.
+ * When a target latency is set, the target number of statements is
+ * adjusted after each transaction, proportionally to how far its
+ * duration was from the target latency (at most halving or doubling it
+ * each time), never exceeding the configured maximum.
+ * </p>
+ * <p>
+ * Shared by all partitions of a batch committed in parallel.
+ * </p>
+ */
+class TransactionSizer {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(TransactionSizer.class);
+
+    // Estimated size of non-string values (e.g., numbers)
+    private static final int VALUE_SIZE = 8;
+
+    private final int maxSize;
+    private final long maxBytes;
+    private final long targetLatencyNanos;
+    private int size;
+
+    /**
+     * Creates a transaction sizer.
+     * @param maxSize maximum number of statements per transaction,
+     *     zero or less for no maximum
+     * @param maxBytes maximum estimated size of a transaction statement
+     *     parameters, zero or less for no maximum
+     * @param targetLatency target transaction duration in milliseconds,
+     *     zero or less to never adjust the number of statements
+     */
+    TransactionSizer(int maxSize, long maxBytes, long targetLatency) {
+        this.maxSize = maxSize > 0 ? maxSize : Integer.MAX_VALUE;
+        this.maxBytes = maxBytes > 0 ? maxBytes : Long.MAX_VALUE;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, targetLatency));
+        this.size = this.maxSize;
+    }
+
+    /**
+     * Gets the current target number of statements per transaction.
+     * @return number of statements
+     */
+    synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets whether a transaction is full.
+     * @param count number of statements in the transaction
+     * @param bytes estimated size of the statements
+     * @return {@code true} if no more statements should be added
+     */
+    boolean isFull(int count, long bytes) {
+        return count >= getSize() || bytes >= maxBytes;
+    }
+
+    /**
+     * Adjusts the target number of statements from the duration of a
+     * committed transaction, if a target latency is set.
+     * @param count number of statements in the transaction
+     * @param nanos transaction duration in nanoseconds
+     */
+    synchronized void committed(int count, long nanos) {
+        if (targetLatencyNanos <= 0 || count <= 0 || nanos <= 0) {
+            return;
+        }
+        // Only grow when transactions are filled up to the target
+        // number of statements, as smaller ones tell nothing about it
+        if (nanos < targetLatencyNanos && count < size) {
+            return;
+        }
+        long estimate = Math.round(
+                (double) count * targetLatencyNanos / nanos);
+        estimate = Math.max(size / 2, Math.min((long) size * 2, estimate));
+        int newSize = (int) Math.max(1, Math.min(maxSize, estimate));
+        if (newSize != size) {
+            LOG.debug("Transaction of {} statement(s) took {}ms. Now "
+                    + "targeting {} statement(s) per transaction.", count,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), newSize);
+            size = newSize;
+        }
+    }
+
+    /**
+     * Estimates the size of a statement parameters, in bytes. Strings
+     * are counted as their UTF-8 length.
+     * @param stmt statement
+     * @return estimated size
+     */
+    static long estimateSize(CypherStatement stmt) {
+        long bytes = 0;
+        for (Query query : stmt.getQueries()) {
+            bytes += estimateSize(query.getParameters());
+        }
+        return bytes;
+    }
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return Neo4jCommitterMetrics.utf8Length((String) value);
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof Collection) {
+            long bytes = 0;
+            for (Object v : (Collection<?>) value) {
+                bytes += estimateSize(v);
+            }
+            return bytes;
+        }
+        if (value instanceof Map) {
+            long bytes = 0;
+            for (Entry<?, ?> en : ((Map<?, ?>) value).entrySet()) {
+                bytes += estimateSize(en.getKey())
+                        + estimateSize(en.getValue());
+            }
+            return bytes;
+        }
+        return VALUE_SIZE;
+    }
+}
@@ -0,0 +1,64 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.IOUtils.toInputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.norconex.committer.neo4j.BlobStore.Blob;
+
+class BlobStoreTest {
+
+    // SHA-256 of "abc"
+    private static final String ABC_HASH =
+            "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStore() throws IOException {
+        BlobStore store = new BlobStore(tempDir);
+        Blob blob = store.store(toInputStream("abc", UTF_8));
+        assertEquals(ABC_HASH, blob.getHash());
+        assertEquals("ba/78/" + ABC_HASH, blob.getPath());
+        assertEquals(3, blob.getLength());
+        assertEquals("abc", new String(Files.readAllBytes(
+                tempDir.resolve(blob.getPath())), UTF_8));
+
+        // Identical content is stored once, different content apart
+        assertEquals(blob.getPath(),
+                store.store(toInputStream("abc", UTF_8)).getPath());
+        assertNotEquals(blob.getPath(),
+                store.store(toInputStream("abcd", UTF_8)).getPath());
+        assertEquals(2, countFiles());
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Bookmark;
+
+class BookmarkChainTest {
+
+    @Test
+    void testChain() {
+        BookmarkChain chain = new BookmarkChain();
+        assertTrue(chain.getBookmark().isEmpty());
+
+        // Concurrent sessions started from the same (empty) bookmark
+        Bookmark given = chain.getBookmark();
+        chain.chain(Collections.singleton(given), bookmark("a"));
+        chain.chain(Collections.singleton(given), bookmark("b"));
+        assertEquals(values("a", "b"), chain.getBookmark().values());
+
+        // Next session supersedes both
+        given = chain.getBookmark();
+        chain.chain(Collections.singleton(given), bookmark("c"));
+        assertEquals(values("c"), chain.getBookmark().values());
+
+        // Sessions without any transaction change nothing
+        chain.chain(Collections.singleton(given), bookmark());
+        chain.chain(Collections.singleton(given), null);
+        assertEquals(values("c"), chain.getBookmark().values());
+
+        // Sessions not started from the chain replace it
+        chain.chain(null, bookmark("d"));
+        assertEquals(values("d"), chain.getBookmark().values());
+    }
+
+    private static Bookmark bookmark(String... values) {
+        return Bookmark.from(values(values));
+    }
+    private static HashSet<String> values(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+}
@@ -0,0 +1,105 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChecksumStoreTest {
+
+    private static final String CYPHER = "MERGE (d:Doc { id: $id })";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testChecksum() {
+        Map<String, Object> params1 = new LinkedHashMap<>();
+        params1.put("id", "doc1");
+        params1.put("title", Arrays.asList("a", "b"));
+        Map<String, Object> params2 = new LinkedHashMap<>();
+        params2.put("title", Arrays.asList("a", "b"));
+        params2.put("id", "doc1");
+
+        // Parameter order does not matter
+        assertArrayEquals(ChecksumStore.checksum(CYPHER, params1),
+                ChecksumStore.checksum(CYPHER, params2));
+
+        // Cypher, names, and values do
+        byte[] checksum = ChecksumStore.checksum(CYPHER, params1);
+        assertFalse(Arrays.equals(checksum, ChecksumStore.checksum(
+                CYPHER + " SET d.x = 1", params1)));
+        params2.put("title", Arrays.asList("a", "c"));
+        assertFalse(Arrays.equals(
+                checksum, ChecksumStore.checksum(CYPHER, params2)));
+        Map<String, Object> params3 = new HashMap<>();
+        params3.put("id", "doc1ti");
+        params3.put("tle", Arrays.asList("a", "b"));
+        assertFalse(Arrays.equals(
+                checksum, ChecksumStore.checksum(CYPHER, params3)));
+
+        // Byte arrays are compared by content
+        params1.put("content", new byte[] { 1, 2 });
+        params2.put("title", Arrays.asList("a", "b"));
+        params2.put("content", new byte[] { 1, 2 });
+        assertArrayEquals(ChecksumStore.checksum(CYPHER, params1),
+                ChecksumStore.checksum(CYPHER, params2));
+        params2.put("content", new byte[] { 1, 3 });
+        assertFalse(Arrays.equals(ChecksumStore.checksum(CYPHER, params1),
+                ChecksumStore.checksum(CYPHER, params2)));
+    }
+
+    @Test
+    void testStoreEvictAndReopen() {
+        Path file = tempDir.resolve(ChecksumStore.FILE_NAME);
+        byte[] checksum1 = ChecksumStore.checksum(
+                CYPHER, singletonParams("doc1"));
+        byte[] checksum2 = ChecksumStore.checksum(
+                CYPHER, singletonParams("doc2"));
+
+        try (ChecksumStore store = new ChecksumStore(file)) {
+            assertFalse(store.isUnchanged("doc1", checksum1));
+            store.store("doc1", checksum1);
+            store.store("doc2", checksum2);
+            assertTrue(store.isUnchanged("doc1", checksum1));
+            assertFalse(store.isUnchanged("doc1", checksum2));
+            store.evict("doc2");
+            assertFalse(store.isUnchanged("doc2", checksum2));
+        }
+
+        // Checksums are kept between sessions
+        try (ChecksumStore store = new ChecksumStore(file)) {
+            assertEquals(1, store.size());
+            assertTrue(store.isUnchanged("doc1", checksum1));
+        }
+    }
+
+    private static Map<String, Object> singletonParams(String id) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", id);
+        return params;
+    }
+}
@@ -0,0 +1,85 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.norconex.committer.core3.DeleteRequest;
+import com.norconex.committer.core3.ICommitterRequest;
+import com.norconex.committer.core3.UpsertRequest;
+import com.norconex.commons.lang.map.Properties;
+
+class CoalescingIteratorTest {
+
+    private final List<ICommitterRequest> batch = Arrays.asList(
+            upsert("a"), upsert("b"), delete("a"),
+            upsert("c"), upsert("b"), upsert("d"));
+
+    @Test
+    void testCoalesce() {
+        CoalescingIterator it = new CoalescingIterator(batch.iterator(), 100);
+        assertEquals(Arrays.asList("D:a", "U:c", "U:b", "U:d"),
+                toStrings(it));
+        assertEquals(2, it.getCoalescedCount());
+    }
+
+    @Test
+    void testCoalesceWindow() {
+        CoalescingIterator it = new CoalescingIterator(batch.iterator(), 3);
+        assertEquals(Arrays.asList("U:b", "D:a", "U:c", "U:b", "U:d"),
+                toStrings(it));
+        assertEquals(1, it.getCoalescedCount());
+    }
+
+    @Test
+    void testDeletesFirst() {
+        CoalescingIterator it = new CoalescingIterator(
+                batch.iterator(), 100, true);
+        assertEquals(Arrays.asList("D:a", "U:c", "U:b", "U:d"),
+                toStrings(it));
+        it = new CoalescingIterator(batch.iterator(), 3, true);
+        assertEquals(Arrays.asList("D:a", "U:b", "U:c", "U:b", "U:d"),
+                toStrings(it));
+    }
+
+    @Test
+    void testEmpty() {
+        CoalescingIterator it = new CoalescingIterator(
+                new ArrayList<ICommitterRequest>().iterator(), 3);
+        assertFalse(it.hasNext());
+        assertEquals(0, it.getCoalescedCount());
+    }
+
+    private static List<String> toStrings(CoalescingIterator it) {
+        List<String> strings = new ArrayList<>();
+        it.forEachRemaining(req -> strings.add(
+                (req instanceof DeleteRequest ? "D:" : "U:")
+                        + req.getReference()));
+        return strings;
+    }
+    private static ICommitterRequest upsert(String ref) {
+        return new UpsertRequest(ref, new Properties(), null);
+    }
+    private static ICommitterRequest delete(String ref) {
+        return new DeleteRequest(ref, new Properties());
+    }
+}
@@ -0,0 +1,78 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConstraintInitializerTest {
+
+    @Test
+    void testResolveFromCypher() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setNodeIdProperty("ref");
+        cfg.setUpsertCypher(
+                "MERGE (d:Doc:`Web Page` { docId: $ref, title: $title })\n"
+              + "MERGE (a:Author { name: $author })\n"
+              + "MERGE (d)-[:IN]->(:Site { siteRef: $`ref` })");
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("Doc", "docId");
+        expected.put("Web Page", "docId");
+        expected.put("Site", "siteRef");
+        assertEquals(expected,
+                new ConstraintInitializer(cfg).resolveConstraints());
+    }
+
+    @Test
+    void testResolveFromLabels() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setUpsertCypher("MERGE (d:Doc { docId: $id })");
+        cfg.setNodeIdLabels(Arrays.asList("Page", "Image"));
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("Page", "id");
+        expected.put("Image", "id");
+        assertEquals(expected,
+                new ConstraintInitializer(cfg).resolveConstraints());
+    }
+
+    @Test
+    void testResolveWithLinkLabel() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setUpsertCypher("MERGE (d:Doc { docId: $id })");
+        cfg.setLinkField("collector.referenced-urls");
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("Doc", "docId");
+        expected.put("Page", "id");
+        assertEquals(expected,
+                new ConstraintInitializer(cfg).resolveConstraints());
+    }
+
+    @Test
+    void testResolveNothing() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setUpsertCypher("MERGE (d:Doc { docId: $other })");
+        assertTrue(new ConstraintInitializer(cfg)
+                .resolveConstraints().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.IOUtils.toInputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentCompression;
+
+class ContentReaderTest {
+
+    // Contains a supplementary character (surrogate pair)
+    private static final String CONTENT = "abc\uD834\uDD1Edefgh";
+
+    @Test
+    void testChunks() throws IOException {
+        assertEquals(Arrays.asList("abc", "\uD834\uDD1Ed", "efg", "h"),
+                chunks(CONTENT, 3));
+        assertEquals(Arrays.asList("abc\uD834\uDD1Edefgh"),
+                chunks(CONTENT, 20));
+        assertEquals(Arrays.asList(), chunks("", 3));
+    }
+
+    @Test
+    void testReadString() throws IOException {
+        assertEquals(CONTENT, ContentReader.readString(
+                toInputStream(CONTENT, UTF_8), -1));
+        assertEquals("abc", ContentReader.readString(
+                toInputStream(CONTENT, UTF_8), 4));
+        assertEquals("abc\uD834\uDD1E", ContentReader.readString(
+                toInputStream(CONTENT, UTF_8), 5));
+        assertEquals("", ContentReader.readString(
+                toInputStream(CONTENT, UTF_8), 0));
+    }
+
+    @Test
+    void testReadCompressed() throws IOException {
+        byte[] gzip = ContentReader.readCompressed(
+                toInputStream(CONTENT, UTF_8), -1, ContentCompression.GZIP);
+        assertEquals(CONTENT, IOUtils.toString(new GZIPInputStream(
+                new ByteArrayInputStream(gzip)), UTF_8));
+        byte[] deflate = ContentReader.readCompressed(
+                toInputStream(CONTENT, UTF_8), 4, ContentCompression.DEFLATE);
+        assertEquals("abc", IOUtils.toString(new InflaterInputStream(
+                new ByteArrayInputStream(deflate)), UTF_8));
+    }
+
+    private List<String> chunks(String content, int size)
+            throws IOException {
+        List<String> chunks = new ArrayList<>();
+        try (ContentReader r = new ContentReader(
+                toInputStream(content, UTF_8), size)) {
+            String chunk;
+            while ((chunk = r.nextChunk()) != null) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+}
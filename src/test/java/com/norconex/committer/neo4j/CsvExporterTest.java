@@ -0,0 +1,117 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.IOUtils.toInputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.core3.DeleteRequest;
+import com.norconex.committer.core3.ICommitterRequest;
+import com.norconex.committer.core3.UpsertRequest;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.FieldType;
+import com.norconex.commons.lang.map.Properties;
+
+class CsvExporterTest {
+
+    private static final char D = CsvExporter.ARRAY_DELIMITER;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExport() throws CommitterException, IOException {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setNodeIdProperty("ref");
+        cfg.setUpsertCypher("MERGE (d:Doc { docId: $ref }) SET "
+                + "d.title = $title, d.year = $year, d.content = $content");
+        cfg.setFieldType("year", FieldType.LONG);
+        cfg.setLinkField("links");
+        cfg.setExportDir(tempDir);
+        // One row per file
+        cfg.setExportMaxFileSize(1);
+
+        List<ICommitterRequest> reqs = new ArrayList<>();
+        reqs.add(upsertRequest(1));
+        reqs.add(upsertRequest(2));
+        reqs.add(new DeleteRequest("http://doc/1", new Properties()));
+
+        CsvExporter exporter = new CsvExporter(cfg);
+        exporter.post(reqs.iterator());
+        exporter.close();
+
+        assertEquals(Arrays.asList("\"docId:ID\",\":LABEL\","
+                + "\"title:string[]\",\"year:long\",\"content:string\""),
+                lines("nodes-header.csv"));
+        assertEquals(Arrays.asList(
+                "\"http://doc/1\",\"Doc" + D + "Page\",\"Title \"\"1\"\""
+                        + D + "Other\",\"1991\",\"line1",
+                "line2\""), lines("nodes-00001.csv"));
+        assertTrue(Files.exists(tempDir.resolve("nodes-00002.csv")));
+        assertEquals(Arrays.asList("\"http://x/all\",\"Page\""),
+                lines("link-targets-00002.csv"));
+        assertFalse(Files.exists(tempDir.resolve("link-targets-00004.csv")));
+        assertEquals(Arrays.asList(
+                "\"http://doc/2\",\"http://x/all\",\"LINKS_TO\""),
+                lines("links-00004.csv"));
+        assertEquals(2, exporter.getMetrics().getUpsertCount());
+        assertEquals(4, exporter.getMetrics().getLinkCount());
+
+        // Numbering continues from existing files
+        exporter = new CsvExporter(cfg);
+        exporter.post(Arrays.<ICommitterRequest>asList(
+                upsertRequest(1)).iterator());
+        exporter.close();
+        assertEquals(lines("nodes-00001.csv"), lines("nodes-00003.csv"));
+        assertFalse(Files.exists(tempDir.resolve("nodes-00004.csv")));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals(null, CsvExporter.toString(null, false));
+        assertEquals("1", CsvExporter.toString(1L, false));
+        assertEquals("a", CsvExporter.toString(
+                Arrays.asList("a", "b"), false));
+        assertEquals("a" + D + "b", CsvExporter.toString(
+                Arrays.asList("a", "b"), true));
+        assertEquals("", CsvExporter.csvValue(null));
+        assertEquals("\"a\"\"b\"", CsvExporter.csvValue("a\"b"));
+    }
+
+    private static UpsertRequest upsertRequest(int i) {
+        Properties meta = new Properties();
+        meta.add("title", "Title \"" + i + "\"", "Other");
+        meta.add("year", "199" + i, "2000");
+        meta.add("links", "http://x/" + i, "http://x/all");
+        return new UpsertRequest("http://doc/" + i, meta,
+                toInputStream("line1\nline2", UTF_8));
+    }
+    private List<String> lines(String file) throws IOException {
+        return Files.readAllLines(tempDir.resolve(file), UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.jupiter.api.Test;
+
+class CypherUtilTest {
+
+    private static final String CYPHER =
+            "MERGE (m:Movie { id: $movieId, title: $title })\n"
+          + "SET m.note = 'costs $5 or \\'$title\\'', m.`$x` = $`my-field`\n"
+          + "// $commented\n"
+          + "/* $also commented */ SET m.year = $year, m.id2 = $movieId";
+
+    @Test
+    void testParameterNames() {
+        assertEquals(new LinkedHashSet<>(Arrays.asList(
+                "movieId", "title", "my-field", "year")),
+                CypherUtil.parameterNames(CYPHER));
+        assertEquals(0, CypherUtil.parameterNames(null).size());
+    }
+
+    @Test
+    void testToUnwindCypher() {
+        assertEquals(
+                "UNWIND $rows AS row\n"
+              + "MERGE (m:Movie { id: row.movieId, title: row.title })\n"
+              + "SET m.note = 'costs $5 or \\'$title\\'', "
+              + "m.`$x` = row.`my-field`\n"
+              + "// $commented\n"
+              + "/* $also commented */ "
+              + "SET m.year = row.year, m.id2 = row.movieId",
+                CypherUtil.toUnwindCypher(CYPHER));
+        assertNull(CypherUtil.toUnwindCypher(null));
+    }
+
+    @Test
+    void testFindUnwindUnsafeClause() {
+        assertNull(CypherUtil.findUnwindUnsafeClause(CYPHER));
+        assertNull(CypherUtil.findUnwindUnsafeClause(null));
+        assertNull(CypherUtil.findUnwindUnsafeClause(
+                "MATCH (m) WHERE m.name STARTS WITH $p OR m.name "
+              + "ends with $p WITH * SET m.note = 'WITH', m.with = 1"));
+        assertNull(CypherUtil.findUnwindUnsafeClause(
+                "CALL db.labels() YIELD label RETURN label"));
+        assertEquals("WITH", CypherUtil.findUnwindUnsafeClause(
+                "MATCH (m) WHERE m.a STARTS WITH $a WITH m SET m.b = $b"));
+        assertEquals("CALL {}", CypherUtil.findUnwindUnsafeClause(
+                "MATCH (m) CALL { MATCH (n) RETURN n } SET m.b = $b"));
+        assertEquals("UNION", CypherUtil.findUnwindUnsafeClause(
+                "MATCH (m) RETURN m UNION MATCH (n) RETURN n"));
+    }
+}
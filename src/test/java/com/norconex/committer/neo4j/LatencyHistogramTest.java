@@ -0,0 +1,48 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getPercentile(0.95));
+        for (int i = 1; i <= 100; i++) {
+            h.record(i);
+        }
+        assertEquals(100, h.getCount());
+        assertEquals(100, h.getMax());
+        assertEquals(50.5, h.getMean());
+        // 50 falls in the 32-63 bucket
+        assertEquals(63, h.getPercentile(0.50));
+        // 99 falls in the 64-127 bucket, capped to max
+        assertEquals(100, h.getPercentile(0.99));
+        assertEquals(1, h.getPercentile(0.01));
+    }
+
+    @Test
+    void testUtf8Length() {
+        assertEquals(0, Neo4jCommitterMetrics.utf8Length(""));
+        assertEquals(3, Neo4jCommitterMetrics.utf8Length("abc"));
+        assertEquals(2, Neo4jCommitterMetrics.utf8Length("\u00E9"));
+        assertEquals(3, Neo4jCommitterMetrics.utf8Length("\u20AC"));
+        assertEquals(4, Neo4jCommitterMetrics.utf8Length("\uD834\uDD1E"));
+    }
+}
@@ -0,0 +1,104 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.norconex.committer.neo4j.CypherStatement.Query;
+import com.norconex.commons.lang.map.Properties;
+
+class LinkGraphTest {
+
+    @Test
+    void testToLinks() {
+        LinkGraph graph = new LinkGraph(config());
+        Properties meta = new Properties();
+        assertTrue(graph.toLinks(meta).isEmpty());
+        meta.add("links", "b", "", "c", "b");
+        assertEquals(Arrays.asList("b", "c"), graph.toLinks(meta));
+    }
+
+    @Test
+    void testAddAndDrain() {
+        LinkGraph graph = new LinkGraph(config());
+        graph.add(statement("a", "b"));
+        graph.add(statement("b", "a"));
+        graph.add(statement("a", "c"));
+        graph.add(statement("d"));
+        graph.remove("d");
+
+        List<CypherStatement> stmts = graph.drain();
+        assertEquals(2, stmts.size());
+        assertEquals("b", stmts.get(0).getReference());
+        assertEquals(Arrays.asList("c"), stmts.get(1).getLinks());
+        assertTrue(graph.drain().isEmpty());
+    }
+
+    @Test
+    void testToQueries() {
+        LinkGraph graph = new LinkGraph(config());
+        List<Query> queries = graph.toQueries(Arrays.asList(
+                statement("a", "b", "c"),
+                statement("b", "a", "c", "d")));
+
+        // 2 sources, 4 distinct nodes, 5 links, 2 rows at a time
+        assertEquals(6, queries.size());
+        assertEquals(Arrays.asList(0, 1, 1, 2, 2, 2), steps(queries));
+        assertEquals("UNWIND $rows AS row\n"
+                + "MERGE (:Page { id: row })", queries.get(1).getCypher());
+        assertEquals(Arrays.asList("a", "b"), rows(queries.get(1)));
+        assertEquals(Arrays.asList("c", "d"), rows(queries.get(2)));
+        assertEquals("UNWIND $rows AS row\n"
+                + "MATCH (s:Page { id: row.source })\n"
+                + "MATCH (t:Page { id: row.target })\n"
+                + "CREATE (s)-[:LINKS_TO]->(t)", queries.get(3).getCypher());
+        Map<?, ?> link = (Map<?, ?>) rows(queries.get(5)).get(0);
+        assertEquals("b", link.get(LinkGraph.SOURCE_KEY));
+        assertEquals("d", link.get(LinkGraph.TARGET_KEY));
+    }
+
+    private static Neo4jCommitterConfig config() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setLinkField("links");
+        cfg.setLinkBatchSize(2);
+        cfg.setMultiValuesJoiner("|");
+        return cfg;
+    }
+    private static CypherStatement statement(
+            String reference, String... links) {
+        CypherStatement stmt = new CypherStatement(
+                reference, false, Collections.emptyList(), null);
+        stmt.setLinks(Arrays.asList(links));
+        return stmt;
+    }
+    private static List<Integer> steps(List<Query> queries) {
+        List<Integer> steps = new ArrayList<>();
+        queries.forEach(q -> steps.add(q.getStep()));
+        return steps;
+    }
+    private static List<?> rows(Query query) {
+        return (List<?>) query.getParameters().get(
+                CypherUtil.UNWIND_ROWS_PARAM);
+    }
+}
@@ -16,11 +16,26 @@ package com.norconex.committer.neo4j;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import com.norconex.committer.core3.CommitterContext;
+import com.norconex.committer.core3.CommitterException;
 import com.norconex.committer.core3.batch.queue.impl.FSQueue;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentCompression;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentMode;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.DeleteStrategy;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.Engine;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.FieldType;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.WriteMode;
+import com.norconex.committer.neo4j.Neo4jDriverSettings.TrustStrategy;
+import com.norconex.committer.neo4j.PipelineStatement.RequestType;
 import com.norconex.commons.lang.ResourceLoader;
 import com.norconex.commons.lang.map.PropertyMatcher;
 import com.norconex.commons.lang.security.Credentials;
@@ -57,10 +72,99 @@ class Neo4jCommitterConfigTest {
         cfg.setNodeContentProperty("myContent");
         cfg.setUpsertCypher("my upsert cypher");
         cfg.setDeleteCypher("my delete cypher");
+        PipelineStatement authors = new PipelineStatement(
+                "authors", RequestType.UPSERT, "my authors cypher");
+        authors.setConditionField("author");
+        authors.setConditionRegex(".*Smith.*");
+        cfg.addStatement(authors);
+        cfg.addStatement(new PipelineStatement(
+                "orphans", RequestType.DELETE, "my orphans cypher"));
+        cfg.setFieldType("year", FieldType.LONG);
+        cfg.setFieldType("modified", FieldType.DATETIME);
+        cfg.setWriteMode(WriteMode.SESSION);
+        cfg.setTransactionSize(50);
+        cfg.setParallelism(4);
+        cfg.setEngine(Engine.ASYNC);
+        cfg.setMaxInFlightTransactions(32);
+        cfg.setContentMode(ContentMode.CHUNK);
+        cfg.setMaxContentLength(500);
+        cfg.setContentChunkSize(100);
+        cfg.setChunkCypher("my chunk cypher");
+        cfg.setCreateNodeIdConstraints(true);
+        Neo4jDriverSettings driver = cfg.getDriverSettings();
+        driver.setMaxConnectionPoolSize(200);
+        driver.setConnectionAcquisitionTimeout(60000L);
+        driver.setConnectionTimeout(30000L);
+        driver.setMaxConnectionLifetime(3600000L);
+        driver.setConnectionLivenessCheckTimeout(120000L);
+        driver.setFetchSize(500L);
+        driver.setEncrypted(true);
+        driver.setTrustStrategy(TrustStrategy.ALL);
+        driver.setRoutingTablePurgeDelay(60000L);
+        driver.setMaxTransactionRetryTime(15000L);
+        cfg.setNodeIdLabels(Arrays.asList("Movie", "Person"));
+        cfg.setConstraintsTimeout(30000);
+        cfg.setMaxTransientRetries(5);
+        cfg.setTransientRetryDelay(100);
+        cfg.setMaxTransientRetryDelay(10000);
+        cfg.setBisectFailures(true);
+        cfg.setJmxEnabled(true);
+        cfg.setSkipUnchanged(true);
+        cfg.setCoalesceRequests(true);
+        cfg.setCoalesceWindowSize(500);
+        cfg.setPhasedWrites(true);
+        cfg.setLinkField("collector.referenced-urls");
+        cfg.setLinkLabel("WebPage");
+        cfg.setLinkRelationship("REFERENCES");
+        cfg.setLinkBatchSize(5000);
+        cfg.setValidateQueries(true);
+        cfg.setExportDir(Paths.get("/tmp/neo4j-export"));
+        cfg.setExportMaxFileSize(64L * 1024 * 1024);
+        cfg.setChainBookmarks(true);
+        cfg.setTransactionMaxBytes(16L * 1024 * 1024);
+        cfg.setTransactionTargetLatency(2000);
+        cfg.setContentCompression(ContentCompression.DEFLATE);
+        cfg.setContentStoreDir(Paths.get("/tmp/neo4j-content"));
+        cfg.setDeleteStrategy(DeleteStrategy.IN_TRANSACTIONS);
+        cfg.setDeleteChunkSize(5000);
+        cfg.setSpoolWrites(true);
+        cfg.setSpoolBatchSize(250);
+        cfg.setSpoolMaxDepth(20000);
+        cfg.setSpoolRetryDelay(5000);
+        cfg.setSpoolMaxWait(60000);
 
         XML.assertWriteRead(c, "committer");
     }
 
+    @Test
+    void testSerializable() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setExportDir(Paths.get("/tmp/neo4j-export"));
+        cfg.setContentStoreDir(Paths.get("/tmp/neo4j-content"));
+        Neo4jCommitterConfig copy = SerializationUtils.roundtrip(cfg);
+        Assertions.assertEquals(cfg, copy);
+        Assertions.assertEquals(
+                Paths.get("/tmp/neo4j-export"), copy.getExportDir());
+        Assertions.assertEquals(
+                Paths.get("/tmp/neo4j-content"), copy.getContentStoreDir());
+    }
+
+    @Test
+    void testUnsupportedCombinations(@TempDir Path tempDir) {
+        CommitterContext ctx = CommitterContext.builder()
+                .setWorkDir(tempDir.resolve("work")).build();
+
+        Neo4jCommitter c1 = new Neo4jCommitter();
+        c1.getConfig().setExportDir(tempDir.resolve("export"));
+        c1.getConfig().setContentCompression(ContentCompression.GZIP);
+        Assertions.assertThrows(CommitterException.class, () -> c1.init(ctx));
+
+        Neo4jCommitter c2 = new Neo4jCommitter();
+        c2.getConfig().setExportDir(tempDir.resolve("export"));
+        c2.getConfig().setContentMode(ContentMode.EXTERNAL);
+        Assertions.assertThrows(CommitterException.class, () -> c2.init(ctx));
+    }
+
     @Test
     void testValidation() throws IOException {
         Assertions.assertDoesNotThrow(() -> {
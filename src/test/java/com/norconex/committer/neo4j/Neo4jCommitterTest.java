@@ -18,17 +18,31 @@ import static java.lang.System.out;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.IOUtils.toInputStream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.NullInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.AfterAll;
@@ -38,11 +52,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
 import org.neo4j.driver.types.Node;
@@ -53,7 +69,15 @@ import org.testcontainers.utility.DockerImageName;
 
 import com.norconex.committer.core3.CommitterContext;
 import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.core3.DeleteRequest;
 import com.norconex.committer.core3.UpsertRequest;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentCompression;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.ContentMode;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.DeleteStrategy;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.Engine;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.FieldType;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.WriteMode;
+import com.norconex.committer.neo4j.PipelineStatement.RequestType;
 import com.norconex.commons.lang.TimeIdGenerator;
 import com.norconex.commons.lang.map.Properties;
 
@@ -163,6 +187,361 @@ class Neo4jCommitterTest {
         //TODO more tests as appropriate
     }
 
+    @Test
+    void upsertUnwindTest() throws CommitterException {
+        commitAllMovies(cfg -> cfg.setWriteMode(WriteMode.UNWIND));
+        assertAllMoviesCommitted();
+    }
+
+    @Test
+    void upsertUnwindMaxBytesTest() throws CommitterException {
+        // Every document exceeds the maximum, so each gets its own
+        // transaction
+        Neo4jCommitter committer = commitAllMovies(cfg -> {
+            cfg.setWriteMode(WriteMode.UNWIND);
+            cfg.setTransactionMaxBytes(1);
+        });
+        assertAllMoviesCommitted();
+        assertEquals(3, committer.getMetrics().getTransactionCount());
+    }
+
+    @Test
+    void upsertSessionTest() throws CommitterException {
+        commitAllMovies(cfg -> cfg.setWriteMode(WriteMode.SESSION));
+        assertAllMoviesCommitted();
+    }
+
+    @Test
+    void upsertSessionTransactionTest() throws CommitterException {
+        commitAllMovies(cfg -> {
+            cfg.setWriteMode(WriteMode.SESSION);
+            cfg.setTransactionSize(2);
+        });
+        assertAllMoviesCommitted();
+    }
+
+    @Test
+    void upsertParallelTest() throws CommitterException {
+        commitAllMovies(cfg -> {
+            cfg.setParallelism(3);
+            cfg.getDriverSettings().setMaxConnectionPoolSize(3);
+        });
+        // Without a uniqueness constraint, concurrent MERGE of shared
+        // actors may create duplicates, so we only check relationships.
+        assertEquals(3, count("MATCH (n:Movie) RETURN count(n)"));
+        assertEquals(11, count(
+                "MATCH (:Actor)-[r:ACTED_IN]->(:Movie) RETURN count(r)"));
+    }
+
+    @Test
+    void upsertAsyncTest() throws CommitterException {
+        commitAllMovies();
+        List<String> expected = movieRelationships();
+        session.run("MATCH (n)\nDETACH DELETE n");
+
+        commitAllMovies(cfg -> {
+            cfg.setEngine(Engine.ASYNC);
+            cfg.setMaxInFlightTransactions(2);
+        });
+        assertEquals(expected, movieRelationships());
+    }
+
+    @Test
+    void upsertChainedBookmarksTest() throws CommitterException {
+        Neo4jCommitter committer = commitAllMovies(cfg -> {
+            cfg.setChainBookmarks(true);
+            cfg.setParallelism(2);
+        });
+        Bookmark bookmark = committer.getLastBookmark();
+        assertFalse(bookmark.isEmpty());
+        try (Session s = driver.session(SessionConfig.builder()
+                .withBookmarks(bookmark).build())) {
+            assertEquals(3, s.run("MATCH (n:Movie) RETURN count(n)")
+                    .single().get(0).asInt());
+        }
+    }
+
+    @Test
+    void upsertTruncatedContentTest() throws CommitterException {
+        commitAllMovies(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })\n"
+                    + "SET m.content = $movieContent[0]");
+            cfg.setContentMode(ContentMode.TRUNCATE);
+            cfg.setMaxContentLength(7);
+        });
+        assertEquals(3, count("MATCH (m:Movie) "
+                + "WHERE m.content = 'This is' RETURN count(m)"));
+    }
+
+    @Test
+    void upsertCompressedContentTest() throws Exception {
+        commitAllMovies(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })\n"
+                    + "SET m.content = $movieContent, "
+                    + "m.codec = $contentCodec");
+            cfg.setContentCompression(ContentCompression.GZIP);
+        });
+        Record record = session.run("MATCH (m:Movie { id: 'matrix1' }) "
+                + "RETURN m.content, m.codec").single();
+        assertEquals("gzip", record.get(1).asString());
+        assertTrue(IOUtils.toString(new GZIPInputStream(
+                new ByteArrayInputStream(record.get(0).asByteArray())),
+                UTF_8).startsWith("This is"));
+    }
+
+    @Test
+    void upsertSpooledTest() throws CommitterException {
+        Neo4jCommitter committer = commitAllMovies(cfg -> {
+            cfg.setSpoolWrites(true);
+            cfg.setSpoolBatchSize(2);
+            cfg.setWriteMode(WriteMode.UNWIND);
+        });
+        // Remaining statements are written on close
+        assertAllMoviesCommitted();
+        assertEquals(0, committer.getMetrics().getSpoolDepth());
+        assertEquals(3, committer.getMetrics().getUpsertCount());
+    }
+
+    @Test
+    void upsertExternalContentTest() throws Exception {
+        Path blobDir = new File(tempDir, "blobs").toPath();
+        Neo4jCommitter committer = commitAllMovies(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })\n"
+                    + "SET m.hash = $movieContent, m.path = $contentPath, "
+                    + "m.length = $contentLength");
+            cfg.setContentMode(ContentMode.EXTERNAL);
+            cfg.setContentStoreDir(blobDir);
+        });
+        // All movies have the same content, stored once
+        assertEquals(1, count("MATCH (m:Movie) "
+                + "RETURN count(DISTINCT m.path)"));
+        Record record = session.run("MATCH (m:Movie { id: 'matrix1' }) "
+                + "RETURN m.hash, m.path, m.length").single();
+        Path file = blobDir.resolve(record.get(1).asString());
+        assertEquals(file.getFileName().toString(),
+                record.get(0).asString());
+        assertEquals(TEST_CONTENT, new String(
+                Files.readAllBytes(file), UTF_8));
+        assertEquals(Files.size(file), record.get(2).asLong());
+        // Content is not sent to Neo4j
+        assertEquals(0, committer.getMetrics().getContentBytesSent());
+    }
+
+    @Test
+    void upsertChunkedContentTest() throws CommitterException {
+        commitAllMovies(cfg -> {
+            cfg.setContentMode(ContentMode.CHUNK);
+            cfg.setContentChunkSize(10);
+            cfg.setChunkCypher("MATCH (m:Movie { id: $movieId })\n"
+                    + "CREATE (m)-[:HAS_CHUNK]->(:Chunk { "
+                    + "index: $chunkIndex, text: $movieContent[0] })");
+        });
+        assertAllMoviesCommitted();
+        assertEquals(12, count(
+                "MATCH (:Movie)-[:HAS_CHUNK]->(c:Chunk) RETURN count(c)"));
+        assertEquals(TEST_CONTENT, session.run(
+                "MATCH (m:Movie)-[:HAS_CHUNK]->(c:Chunk)\n"
+              + "WHERE m.id = ['matrix1']\n"
+              + "WITH c ORDER BY c.index\n"
+              + "RETURN reduce(s = '', t IN collect(c.text) | s + t)")
+                      .single().get(0).asString());
+    }
+
+    @Test
+    void upsertFieldTypesTest() throws CommitterException {
+        commitAllMovies(cfg -> cfg.setFieldType("year", FieldType.LONG));
+        assertEquals(2, count("MATCH (m:Movie) "
+                + "WHERE m.year > 1990 RETURN count(m)"));
+    }
+
+    @Test
+    void upsertNodeIdConstraintsTest() throws CommitterException {
+        commitAllMovies(cfg -> cfg.setCreateNodeIdConstraints(true));
+        assertAllMoviesCommitted();
+        assertEquals(1, count("CALL db.constraints() YIELD name "
+                + "WHERE name = 'norconex_Movie_id' RETURN count(name)"));
+        session.run("DROP CONSTRAINT norconex_Movie_id").consume();
+    }
+
+    @Test
+    void upsertBisectFailuresTest() throws CommitterException {
+        Neo4jCommitter committer = commitAllMovies(cfg -> {
+            cfg.setWriteMode(WriteMode.UNWIND);
+            cfg.setBisectFailures(true);
+            // Division by zero fails "matrix2" only
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })\n"
+                    + "SET m.valid = 1 / CASE WHEN $movieId[0] = 'matrix2' "
+                    + "THEN 0 ELSE 1 END");
+        });
+        assertEquals(2, count("MATCH (m:Movie) RETURN count(m)"));
+        assertEquals(0, count("MATCH (m:Movie) "
+                + "WHERE 'matrix2' IN m.id RETURN count(m)"));
+        // Skipped upserts are not counted as committed
+        assertEquals(2, committer.getMetrics().getUpsertCount());
+        assertEquals(1, committer.getMetrics().getSkippedCount());
+    }
+
+    @Test
+    void upsertPipelineTest() throws CommitterException {
+        commitAllMoviesWithPipeline(cfg -> {});
+        assertAllMoviesCommitted();
+    }
+
+    @Test
+    void upsertPipelineUnwindTest() throws CommitterException {
+        commitAllMoviesWithPipeline(
+                cfg -> cfg.setWriteMode(WriteMode.UNWIND));
+        assertAllMoviesCommitted();
+    }
+
+    @Test
+    void upsertPhasedWritesTest() throws CommitterException {
+        Neo4jCommitter committer = withinCommitterSession(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })");
+            cfg.setDeleteCypher(
+                    "MATCH (m:Movie { id: $movieId }) DETACH DELETE m");
+            cfg.setWriteMode(WriteMode.UNWIND);
+            cfg.setPhasedWrites(true);
+        }, c -> {
+            c.upsert(movieUpsertRequest("matrix1"));
+            c.upsert(movieUpsertRequest("matrix2"));
+            c.delete(new DeleteRequest("matrix1", new Properties()));
+            c.upsert(movieUpsertRequest("devilsAdvocate"));
+            c.delete(new DeleteRequest("matrix2", new Properties()));
+            c.upsert(movieUpsertRequest("matrix2"));
+        });
+        assertEquals(2, count("MATCH (m:Movie) RETURN count(m)"));
+        assertEquals(0, count("MATCH (m:Movie) "
+                + "WHERE 'matrix1' IN m.id RETURN count(m)"));
+        assertEquals(3, committer.getMetrics().getCoalescedCount());
+    }
+
+    @Test
+    void validateQueriesTest() throws CommitterException {
+        commitAllMovies(cfg -> {
+            cfg.setWriteMode(WriteMode.UNWIND);
+            cfg.setValidateQueries(true);
+        });
+        assertAllMoviesCommitted();
+
+        assertThrows(CommitterException.class,
+                () -> createNeo4jCommitter(cfg -> {
+                    cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId )");
+                    cfg.setValidateQueries(true);
+                }));
+        // Would lose the "row" variable
+        assertThrows(CommitterException.class,
+                () -> createNeo4jCommitter(cfg -> {
+                    cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })\n"
+                            + "WITH m SET m.title = $title");
+                    cfg.setWriteMode(WriteMode.UNWIND);
+                }));
+    }
+
+    @Test
+    void upsertLinkGraphTest() throws CommitterException {
+        Consumer<Neo4jCommitterConfig> cfgConsumer = cfg -> {
+            cfg.setUpsertCypher("MERGE (p:Page { movieId: $movieId })");
+            cfg.setLinkField("links");
+            cfg.setLinkBatchSize(2);
+        };
+        String links = "MATCH (:Page)-[r:LINKS_TO]->(:Page) RETURN count(r)";
+        Neo4jCommitter committer = withinCommitterSession(cfgConsumer, c -> {
+            c.upsert(linkUpsertRequest("page1", "page2", "page3"));
+            c.upsert(linkUpsertRequest("page2", "page1", "page3", "page3"));
+            c.upsert(linkUpsertRequest("page4"));
+        });
+        assertEquals(4, count("MATCH (p:Page) RETURN count(p)"));
+        assertEquals(4, count(links));
+        assertEquals(4, committer.getMetrics().getLinkCount());
+
+        // Links are replaced when upserted again
+        withinCommitterSession(cfgConsumer, c -> c.upsert(
+                linkUpsertRequest("page1", "page4", "page5")));
+        assertEquals(5, count("MATCH (p:Page) RETURN count(p)"));
+        assertEquals(4, count(links));
+        assertEquals(0, count("MATCH (:Page { movieId: ['page1'] })"
+                + "-[r:LINKS_TO]->(:Page { movieId: ['page2'] }) "
+                + "RETURN count(r)"));
+    }
+
+    @Test
+    void metricsTest() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName names = new ObjectName("com.norconex.committer.neo4j:*");
+        Neo4jCommitter committer = withinCommitterSession(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })");
+            cfg.setJmxEnabled(true);
+        }, c -> {
+            assertEquals(1, server.queryNames(names, null).size());
+            c.upsert(movieUpsertRequest("matrix1"));
+            c.upsert(movieUpsertRequest("matrix2"));
+            c.upsert(movieUpsertRequest("devilsAdvocate"));
+        });
+        assertEquals(0, server.queryNames(names, null).size());
+        Neo4jCommitterMetrics metrics = committer.getMetrics();
+        assertEquals(3, metrics.getUpsertCount());
+        assertEquals(0, metrics.getDeleteCount());
+        assertEquals(3, metrics.getTransactionCount());
+        assertEquals(0, metrics.getTransactionFailureCount());
+        assertEquals(3, metrics.getMaxBatchSize());
+    }
+
+    @Test
+    void deleteChunkedTest() throws CommitterException {
+        commitAllMovies();
+        withinCommitterSession(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })");
+            // Fails unless relationships were deleted first
+            cfg.setDeleteCypher("MATCH (m:Movie { id: $movieId }) DELETE m");
+            cfg.setDeleteStrategy(DeleteStrategy.CHUNKED);
+            cfg.setDeleteChunkSize(2);
+        }, c -> c.delete(new DeleteRequest("matrix1", new Properties())));
+        assertEquals(2, count("MATCH (m:Movie) RETURN count(m)"));
+        assertEquals(2, count("MATCH ({ name: 'Keanu Reeves' })"
+                + "-[:ACTED_IN]->(m:Movie) RETURN count(m)"));
+        assertEquals(6, count("MATCH (n:Actor) RETURN count(n)"));
+
+        // Relationships created by an upsert in the same transaction
+        withinCommitterSession(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })\n"
+                    + "MERGE (a:Actor { name: 'Extra' })\n"
+                    + "CREATE (a)-[:ACTED_IN]->(m)");
+            cfg.setDeleteCypher("MATCH (m:Movie { id: $movieId }) DELETE m");
+            cfg.setDeleteStrategy(DeleteStrategy.CHUNKED);
+            cfg.setWriteMode(WriteMode.UNWIND);
+        }, c -> {
+            c.upsert(movieUpsertRequest("matrix2"));
+            c.delete(new DeleteRequest("matrix2", new Properties()));
+        });
+        assertEquals(1, count("MATCH (m:Movie) RETURN count(m)"));
+    }
+
+    @Test
+    void upsertUnchangedAfterDeleteTest()
+            throws CommitterException, IOException {
+        Path workDir = new File(tempDir, "" + TimeIdGenerator.next()).toPath();
+        Consumer<Neo4jCommitterConfig> cfgConsumer = cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { id: $movieId })");
+            cfg.setDeleteCypher("MATCH (m:Movie { id: $movieId }) DELETE m");
+            cfg.setSkipUnchanged(true);
+            cfg.setWriteMode(WriteMode.UNWIND);
+        };
+        // Upserted then deleted in the same transaction
+        Neo4jCommitter committer = createNeo4jCommitter(workDir, cfgConsumer);
+        committer.upsert(movieUpsertRequest("matrix1"));
+        committer.delete(new DeleteRequest("matrix1", new Properties()));
+        committer.close();
+        assertEquals(0, count("MATCH (m:Movie) RETURN count(m)"));
+
+        // Same content again must not be skipped as unchanged
+        committer = createNeo4jCommitter(workDir, cfgConsumer);
+        committer.upsert(movieUpsertRequest("matrix1"));
+        committer.close();
+        assertEquals(1, count("MATCH (m:Movie) RETURN count(m)"));
+        assertEquals(0, committer.getMetrics().getUnchangedCount());
+    }
+
     @Test
     void deleteTest() throws CommitterException, IOException {
         //TODO test deleting one node and its relationship based on "id".
@@ -183,9 +562,33 @@ class Neo4jCommitterTest {
         return value.asString();
     }
 
+    private void assertAllMoviesCommitted() {
+        assertEquals(3, count("MATCH (n:Movie) RETURN count(n)"));
+        assertEquals(6, count("MATCH (n:Actor) RETURN count(n)"));
+        assertEquals(1, count("MATCH (n:Producer) RETURN count(n)"));
+        assertEquals(3, count("MATCH (n:Director) RETURN count(n)"));
+        assertEquals(3, count("MATCH ({ name: 'Keanu Reeves' })"
+                + "-[:ACTED_IN]->(m:Movie) RETURN count(m)"));
+    }
+    private List<String> movieRelationships() {
+        List<String> rels = session.run(
+                "MATCH (m:Movie)<-[r]-(p)\n"
+              + "RETURN m.id, m.title, m.year, type(r), p.name").list(
+                      rec -> rec.asMap().toString());
+        Collections.sort(rels);
+        return rels;
+    }
+    private long count(String cypher) {
+        return session.run(cypher).single().get(0).asLong();
+    }
+
     private void commitAllMovies() throws CommitterException {
-        withinCommitterSession(c -> {
-            Neo4jCommitterConfig cfg = c.getConfig();
+        commitAllMovies(cfg -> {});
+    }
+    private Neo4jCommitter commitAllMovies(
+            Consumer<Neo4jCommitterConfig> cfgConsumer)
+                    throws CommitterException {
+        return withinCommitterSession(cfg -> {
             cfg.addOptionalParameter("producers");
             cfg.setUpsertCypher(
                 "MERGE (m:Movie { "
@@ -200,6 +603,44 @@ class Neo4jCommitterTest {
                     + "MERGE (d:Director{name: director})\n"
                     + "CREATE (d)-[:DIRECTED]->(m))\n"
             );
+            cfgConsumer.accept(cfg);
+        }, c -> {
+            c.upsert(movieUpsertRequest("matrix1"));
+            c.upsert(movieUpsertRequest("matrix2"));
+            c.upsert(movieUpsertRequest("devilsAdvocate"));
+        });
+    }
+
+    // Same as commitAllMovies, with one statement per relationship type
+    private void commitAllMoviesWithPipeline(
+            Consumer<Neo4jCommitterConfig> cfgConsumer)
+                    throws CommitterException {
+        String match = "MATCH (m:Movie { id: $movieId })\n";
+        withinCommitterSession(cfg -> {
+            cfg.setUpsertCypher("MERGE (m:Movie { "
+                    + "id: $movieId, title: $title, year: $year })");
+            PipelineStatement actors = new PipelineStatement(
+                    "actors", RequestType.UPSERT, match
+                  + "FOREACH (actor IN $actors |\n"
+                  + "MERGE (a:Actor{name: actor})\n"
+                  + "CREATE (a)-[:ACTED_IN]->(m))");
+            actors.setConditionField("actors");
+            cfg.addStatement(actors);
+            PipelineStatement producers = new PipelineStatement(
+                    "producers", RequestType.UPSERT, match
+                  + "FOREACH (producer IN $producers |\n"
+                  + "MERGE (p:Producer{name: producer})\n"
+                  + "CREATE (p)-[:PRODUCED]->(m))");
+            producers.setConditionField("producers");
+            producers.setConditionRegex("Joel .*");
+            cfg.addStatement(producers);
+            cfg.addStatement(new PipelineStatement(
+                    "directors", RequestType.UPSERT, match
+                  + "FOREACH (director IN COALESCE($directors, []) |\n"
+                  + "MERGE (d:Director{name: director})\n"
+                  + "CREATE (d)-[:DIRECTED]->(m))"));
+            cfgConsumer.accept(cfg);
+        }, c -> {
             c.upsert(movieUpsertRequest("matrix1"));
             c.upsert(movieUpsertRequest("matrix2"));
             c.upsert(movieUpsertRequest("devilsAdvocate"));
@@ -250,6 +691,11 @@ class Neo4jCommitterTest {
                 "/movies/" + movieId + ".properties"), ", ");
         return upsertRequest(movieId, TEST_CONTENT, meta);
     }
+    private UpsertRequest linkUpsertRequest(String id, String... links) {
+        Properties meta = new Properties();
+        meta.add("links", links);
+        return upsertRequest(id, null, meta);
+    }
     private UpsertRequest upsertRequest(
             String id, String content, Properties metadata) {
         Properties p = metadata == null ? new Properties() : metadata;
@@ -258,22 +704,38 @@ class Neo4jCommitterTest {
     }
 
     protected Neo4jCommitter createNeo4jCommitter() throws CommitterException {
+        return createNeo4jCommitter(cfg -> {});
+    }
+    protected Neo4jCommitter createNeo4jCommitter(
+            Consumer<Neo4jCommitterConfig> cfgConsumer)
+                    throws CommitterException {
+        return createNeo4jCommitter(new File(tempDir,
+                "" + TimeIdGenerator.next()).toPath(), cfgConsumer);
+    }
+    protected Neo4jCommitter createNeo4jCommitter(Path workDir,
+            Consumer<Neo4jCommitterConfig> cfgConsumer)
+                    throws CommitterException {
         CommitterContext ctx = CommitterContext.builder()
-                .setWorkDir(new File(tempDir,
-                        "" + TimeIdGenerator.next()).toPath())
+                .setWorkDir(workDir)
                 .build();
         Neo4jCommitter committer = new Neo4jCommitter();
         Neo4jCommitterConfig cfg = committer.getConfig();
         cfg.setUri(neo4jContainer.getBoltUrl());
         cfg.setNodeIdProperty("movieId");
         cfg.setNodeContentProperty("movieContent");
+        cfgConsumer.accept(cfg);
         committer.init(ctx);
         return committer;
     }
 
     private Neo4jCommitter withinCommitterSession(CommitterConsumer c)
             throws CommitterException {
-        Neo4jCommitter committer = createNeo4jCommitter();
+        return withinCommitterSession(cfg -> {}, c);
+    }
+    private Neo4jCommitter withinCommitterSession(
+            Consumer<Neo4jCommitterConfig> cfgConsumer, CommitterConsumer c)
+                    throws CommitterException {
+        Neo4jCommitter committer = createNeo4jCommitter(cfgConsumer);
         try {
             c.accept(committer);
         } catch (CommitterException e) {
@@ -0,0 +1,95 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.value.NullValue;
+
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.FieldType;
+import com.norconex.commons.lang.map.Properties;
+
+class ParameterPlanTest {
+
+    private static final String CYPHER =
+            "MERGE (d:Doc { id: $id }) SET d.title = $title, d.tags = $tags";
+
+    @Test
+    void testToParameters() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.addOptionalParameter("tags");
+        cfg.addOptionalParameter("notReferenced");
+        ParameterPlan plan = new ParameterPlan(CYPHER, cfg);
+
+        Properties meta = new Properties();
+        meta.add("title", "A title");
+        meta.add("unused", "not sent");
+        Map<String, Object> params = plan.toParameters(meta);
+        plan.putValue(params, "id", "ref1");
+        plan.putValue(params, "content", "not referenced");
+
+        assertEquals(3, params.size());
+        assertEquals(Arrays.asList("ref1"), params.get("id"));
+        assertEquals(Arrays.asList("A title"), params.get("title"));
+        assertSame(NullValue.NULL, params.get("tags"));
+        assertTrue(plan.isReferenced("title"));
+        assertFalse(plan.isReferenced("content"));
+    }
+
+    @Test
+    void testMultiValuesJoiner() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setMultiValuesJoiner("|");
+        ParameterPlan plan = new ParameterPlan(CYPHER, cfg);
+
+        Properties meta = new Properties();
+        meta.add("tags", "a", "b");
+        Map<String, Object> params = plan.toParameters(meta);
+        plan.putValue(params, "id", "ref1");
+
+        assertEquals("a|b", params.get("tags"));
+        assertEquals("ref1", params.get("id"));
+    }
+
+    @Test
+    void testFieldTypes() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setMultiValuesJoiner("|");
+        cfg.setFieldType("id", FieldType.LIST);
+        cfg.setFieldType("title", FieldType.DATETIME);
+        cfg.setFieldType("tags", FieldType.LONG);
+        ParameterPlan plan = new ParameterPlan(CYPHER, cfg);
+
+        Properties meta = new Properties();
+        meta.add("title", "2021-02-03T04:05:06Z");
+        meta.add("tags", "1", "bad", "3");
+        Map<String, Object> params = plan.toParameters(meta);
+        plan.putValue(params, "id", "ref1");
+
+        assertEquals(Arrays.asList("ref1"), params.get("id"));
+        assertEquals(ZonedDateTime.of(2021, 2, 3, 4, 5, 6, 0, ZoneOffset.UTC),
+                params.get("title"));
+        assertEquals(Arrays.asList(1L, 3L), params.get("tags"));
+    }
+}
@@ -0,0 +1,50 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.norconex.committer.neo4j.PipelineStatement.RequestType;
+import com.norconex.commons.lang.map.Properties;
+
+class PipelineStatementTest {
+
+    @Test
+    void testMatches() {
+        Properties meta = new Properties();
+        meta.add("author", "Jane Doe", "John Smith");
+        meta.add("empty");
+
+        PipelineStatement stmt = new PipelineStatement(
+                "test", RequestType.UPSERT, "RETURN 1");
+        assertTrue(stmt.matches(meta));
+
+        stmt.setConditionField("author");
+        assertTrue(stmt.matches(meta));
+        stmt.setConditionRegex("John .*");
+        assertTrue(stmt.matches(meta));
+        stmt.setConditionRegex("John");
+        assertFalse(stmt.matches(meta));
+
+        stmt.setConditionRegex(null);
+        stmt.setConditionField("missing");
+        assertFalse(stmt.matches(meta));
+        stmt.setConditionField("empty");
+        assertFalse(stmt.matches(meta));
+    }
+}
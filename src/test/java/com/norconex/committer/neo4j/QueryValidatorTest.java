@@ -0,0 +1,70 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.Plan;
+
+class QueryValidatorTest {
+
+    @Test
+    void testFindCostlyOperators() {
+        Plan plan = new TestPlan("ProduceResults@neo4j",
+                new TestPlan("EmptyResult@neo4j",
+                        new TestPlan("Eager@neo4j",
+                                new TestPlan("NodeByLabelScan@neo4j"))),
+                new TestPlan("NodeUniqueIndexSeek@neo4j"),
+                new TestPlan("Eager"));
+        assertEquals(new TreeSet<>(Arrays.asList("Eager", "NodeByLabelScan")),
+                QueryValidator.findCostlyOperators(plan));
+        assertTrue(QueryValidator.findCostlyOperators(
+                new TestPlan("NodeIndexSeek@neo4j")).isEmpty());
+    }
+
+    private static class TestPlan implements Plan {
+        private final String operatorType;
+        private final List<Plan> children;
+        TestPlan(String operatorType, Plan... children) {
+            this.operatorType = operatorType;
+            this.children = Arrays.asList(children);
+        }
+        @Override
+        public String operatorType() {
+            return operatorType;
+        }
+        @Override
+        public List<String> identifiers() {
+            return Collections.emptyList();
+        }
+        @Override
+        public List<? extends Plan> children() {
+            return children;
+        }
+        @Override
+        public Map<String, Value> arguments() {
+            return Collections.emptyMap();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.norconex.committer.core3.CommitterException;
+import com.norconex.committer.neo4j.CypherStatement.Query;
+import com.norconex.committer.neo4j.Neo4jCommitterConfig.DeleteStrategy;
+
+class RelationshipDeleterTest {
+
+    @Test
+    void testChunked() throws CommitterException {
+        RelationshipDeleter deleter = new RelationshipDeleter(
+                config(DeleteStrategy.CHUNKED));
+        assertFalse(deleter.isInTransactions());
+        assertEquals(2, deleter.getChunkSize());
+        assertEquals(Arrays.asList(
+                "MATCH (:Doc { id: $id })-[r]-()\n"
+              + "WITH DISTINCT r LIMIT 2\n"
+              + "DELETE r",
+                "MATCH (:Page { id: $id })-[r]-()\n"
+              + "WITH DISTINCT r LIMIT 2\n"
+              + "DELETE r"), Arrays.asList(
+                      deleter.getCyphers().values().toArray()));
+        assertTrue(deleter.getCyphers().containsKey(
+                "relationship deletes (Doc)"));
+
+        List<Query> queries = deleter.toQueries("a");
+        assertEquals(2, queries.size());
+        assertEquals("a", queries.get(1).getParameters().get("id"));
+    }
+
+    @Test
+    void testInTransactions() throws CommitterException {
+        RelationshipDeleter deleter = new RelationshipDeleter(
+                config(DeleteStrategy.IN_TRANSACTIONS));
+        assertTrue(deleter.isInTransactions());
+        assertEquals("MATCH (:Doc { id: $id })-[r]-()\n"
+                + "WITH DISTINCT r\n"
+                + "CALL { WITH r DELETE r } IN TRANSACTIONS OF 2 ROWS",
+                deleter.getCyphers().get("relationship deletes (Doc)"));
+    }
+
+    @Test
+    void testNoLabel() {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setNodeIdProperty("id");
+        cfg.setUpsertCypher("CREATE (n)");
+        cfg.setDeleteStrategy(DeleteStrategy.CHUNKED);
+        assertThrows(CommitterException.class,
+                () -> new RelationshipDeleter(cfg));
+    }
+
+    private static Neo4jCommitterConfig config(DeleteStrategy strategy) {
+        Neo4jCommitterConfig cfg = new Neo4jCommitterConfig();
+        cfg.setNodeIdProperty("id");
+        cfg.setNodeIdLabels(Arrays.asList("Doc", "Page"));
+        cfg.setMultiValuesJoiner("|");
+        cfg.setDeleteStrategy(strategy);
+        cfg.setDeleteChunkSize(2);
+        return cfg;
+    }
+}
@@ -0,0 +1,66 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.TransientException;
+
+import com.norconex.committer.core3.CommitterException;
+
+class RetrierTest {
+
+    private static final String DEADLOCK =
+            "Neo.TransientError.Transaction.DeadlockDetected";
+
+    @Test
+    void testRetryTransient() throws CommitterException {
+        AtomicInteger attempts = new AtomicInteger();
+        new Retrier(3, 1, 2).run(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new TransientException(DEADLOCK, "deadlock");
+            }
+        });
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testRetriesExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+        Retrier retrier = new Retrier(2, 1, 2);
+        assertThrows(TransientException.class, () -> retrier.run(() -> {
+            attempts.incrementAndGet();
+            throw new TransientException(DEADLOCK, "deadlock");
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testNoRetryOnClientError() {
+        AtomicInteger attempts = new AtomicInteger();
+        Retrier retrier = new Retrier(2, 1, 2);
+        assertThrows(ClientException.class, () -> retrier.run(() -> {
+            attempts.incrementAndGet();
+            throw new ClientException(
+                    "Neo.ClientError.Statement.ArithmeticError", "/ by zero");
+        }));
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,40 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+
+import com.norconex.committer.core3.CommitterException;
+
+class SpoolFlusherTest {
+
+    @Test
+    void testIsStatementFailure() {
+        assertTrue(SpoolFlusher.isStatementFailure(new CommitterException(
+                "Cannot perform commit request.",
+                new ClientException("Neo.ClientError.Schema."
+                        + "ConstraintValidationFailed", "exists"))));
+        assertFalse(SpoolFlusher.isStatementFailure(new CommitterException(
+                "Cannot perform commit request.",
+                new ServiceUnavailableException("unavailable"))));
+        assertFalse(SpoolFlusher.isStatementFailure(
+                new IllegalStateException("closed")));
+    }
+}
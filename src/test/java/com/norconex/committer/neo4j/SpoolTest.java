@@ -0,0 +1,121 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.driver.internal.value.NullValue;
+
+import com.norconex.committer.neo4j.CypherStatement.Query;
+
+class SpoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testToAndFromBytes() throws IOException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", "doc1");
+        params.put("title", Arrays.asList("a", "b"));
+        params.put("year", 1999L);
+        params.put("content", new byte[] { 1, 2 });
+        params.put("missing", NullValue.NULL);
+        CypherStatement stmt = new CypherStatement("doc1", false, Arrays.asList(
+                new Query(0, "MERGE (d:Doc { id: $id })", params),
+                new Query(2, "MATCH (d:Doc { id: $id }) DETACH DELETE d",
+                        Collections.singletonMap("id", "doc1"))), null);
+        stmt.setChecksum(new byte[] { 3, 4 });
+        stmt.setLinks(Arrays.asList("doc2", "doc3"));
+
+        CypherStatement read = Spool.fromBytes(Spool.toBytes(stmt));
+        assertEquals("doc1", read.getReference());
+        assertFalse(read.isDelete());
+        assertArrayEquals(new byte[] { 3, 4 }, read.getChecksum());
+        assertEquals(Arrays.asList("doc2", "doc3"), read.getLinks());
+        assertEquals(2, read.getQueries().size());
+        Query query = read.getQueries().get(0);
+        assertEquals(0, query.getStep());
+        assertEquals("MERGE (d:Doc { id: $id })", query.getCypher());
+        assertEquals(Arrays.asList("a", "b"),
+                query.getParameters().get("title"));
+        assertEquals(1999L, query.getParameters().get("year"));
+        assertArrayEquals(new byte[] { 1, 2 },
+                (byte[]) query.getParameters().get("content"));
+        assertTrue(query.getParameters().containsKey("missing"));
+        assertNull(query.getParameters().get("missing"));
+        assertEquals(2, read.getQueries().get(1).getStep());
+    }
+
+    @Test
+    void testAppendRemoveAndReopen() throws Exception {
+        Path file = tempDir.resolve(Spool.FILE_NAME);
+        Spool spool = new Spool(file);
+        spool.append(Arrays.asList(
+                statement("doc1"), statement("doc2"), statement("doc3")));
+        assertEquals(3, spool.size());
+        assertTrue(spool.awaitStatements(0));
+        assertFalse(spool.awaitDepthBelow(3, 1));
+        assertTrue(spool.awaitDepthBelow(4, 1));
+
+        SortedMap<Long, CypherStatement> stmts = spool.peek(2);
+        assertEquals(Arrays.asList("doc1", "doc2"), references(stmts));
+        spool.remove(stmts.keySet());
+        assertEquals(1, spool.size());
+        spool.close();
+
+        // Remaining statements survive, new ones come after
+        spool = new Spool(file);
+        assertEquals(1, spool.size());
+        spool.append(Arrays.asList(statement("doc4"), statement("doc5")));
+        stmts = spool.peek(10);
+        assertEquals(Arrays.asList("doc3", "doc4", "doc5"),
+                references(stmts));
+        spool.quarantine(stmts.firstKey());
+        assertEquals(1, spool.getQuarantinedCount());
+        spool.remove(stmts.keySet());
+        assertEquals(0, spool.size());
+        assertEquals(1, spool.getQuarantinedCount());
+        assertFalse(spool.awaitStatements(1));
+        spool.close();
+    }
+
+    private static CypherStatement statement(String reference) {
+        return new CypherStatement(reference, "MERGE (d:Doc { id: $id })",
+                Collections.singletonMap("id", reference));
+    }
+    private static List<String> references(
+            SortedMap<Long, CypherStatement> stmts) {
+        return stmts.values().stream()
+                .map(CypherStatement::getReference)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,93 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionSizerTest {
+
+    @Test
+    void testIsFull() {
+        TransactionSizer sizer = new TransactionSizer(10, 100, 0);
+        assertFalse(sizer.isFull(9, 99));
+        assertTrue(sizer.isFull(10, 0));
+        assertTrue(sizer.isFull(1, 100));
+
+        sizer = new TransactionSizer(0, 0, 0);
+        assertFalse(sizer.isFull(Integer.MAX_VALUE - 1, Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void testCommitted() {
+        TransactionSizer sizer = new TransactionSizer(100, 0, 1000);
+        // Twice too slow: halved
+        sizer.committed(100, millis(2000));
+        assertEquals(50, sizer.getSize());
+        // Way too slow: halved at most
+        sizer.committed(50, millis(60000));
+        assertEquals(25, sizer.getSize());
+        // Smaller than target and fast: unchanged
+        sizer.committed(5, millis(10));
+        assertEquals(25, sizer.getSize());
+        // Smaller than target and slow: halved at most
+        sizer.committed(2, millis(60000));
+        assertEquals(12, sizer.getSize());
+        // Full and fast: grows proportionally, doubling at most
+        sizer.committed(12, millis(800));
+        assertEquals(15, sizer.getSize());
+        sizer.committed(15, millis(1));
+        assertEquals(30, sizer.getSize());
+        sizer.committed(30, millis(1));
+        assertEquals(60, sizer.getSize());
+        // Never above maximum
+        sizer.committed(60, millis(1));
+        assertEquals(100, sizer.getSize());
+        // Never below one
+        for (int i = 0; i < 10; i++) {
+            sizer.committed(sizer.getSize(), millis(60000));
+        }
+        assertEquals(1, sizer.getSize());
+
+        // Without a target latency: unchanged
+        sizer = new TransactionSizer(100, 0, 0);
+        sizer.committed(100, millis(60000));
+        assertEquals(100, sizer.getSize());
+    }
+
+    @Test
+    void testEstimateSize() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("title", "Caf\u00e9");
+        params.put("year", 1999L);
+        params.put("actors", Arrays.asList("ab", "cd"));
+        params.put("none", null);
+        assertEquals(5 + 5 + 4 + 8 + 6 + 4 + 4,
+                TransactionSizer.estimateSize(new CypherStatement(
+                        "ref", "RETURN 1", params)));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}